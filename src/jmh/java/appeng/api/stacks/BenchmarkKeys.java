@@ -0,0 +1,84 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2021, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.api.stacks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.minecraft.core.component.DataComponents;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+
+/**
+ * Generates the keys used by the benchmarks.
+ */
+public final class BenchmarkKeys {
+    private BenchmarkKeys() {
+    }
+
+    /**
+     * Generates distinct item keys that are a mix of different items, damage variants of damageable items (which
+     * matters for fuzzy lookups) and renamed items. The result is the same for the same count.
+     */
+    public static AEItemKey[] items(int count) {
+        List<ItemStack> damageable = new ArrayList<>();
+        List<ItemStack> plain = new ArrayList<>();
+        for (var item : BuiltInRegistries.ITEM) {
+            if (item == Items.AIR) {
+                continue;
+            }
+            var stack = new ItemStack(item);
+            if (stack.isDamageableItem()) {
+                damageable.add(stack);
+            } else {
+                plain.add(stack);
+            }
+        }
+
+        var result = new AEItemKey[count];
+        for (int i = 0; i < count; i++) {
+            int index = i / 3;
+            ItemStack stack;
+            boolean repeated;
+            switch (i % 3) {
+                case 0 -> {
+                    stack = damageable.get(index % damageable.size()).copy();
+                    int variant = index / damageable.size();
+                    stack.setDamageValue(variant % stack.getMaxDamage());
+                    repeated = variant >= stack.getMaxDamage();
+                }
+                case 1 -> {
+                    stack = plain.get(index % plain.size()).copy();
+                    repeated = index >= plain.size();
+                }
+                default -> {
+                    stack = new ItemStack(Items.DIAMOND);
+                    repeated = true;
+                }
+            }
+            if (repeated) {
+                stack.set(DataComponents.CUSTOM_NAME, Component.literal("number" + i));
+            }
+            result[i] = AEItemKey.of(stack);
+        }
+        return result;
+    }
+}
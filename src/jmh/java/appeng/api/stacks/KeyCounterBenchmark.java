@@ -0,0 +1,111 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2021, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.api.stacks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import appeng.api.config.FuzzyMode;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class KeyCounterBenchmark {
+    /**
+     * The number of lookups done by each invocation of the lookup benchmarks.
+     */
+    private static final int LOOKUPS = 100;
+
+    @Param({ "100", "10000" })
+    public int keyCount;
+
+    private AEItemKey[] keys;
+    private KeyCounter counter;
+
+    @Setup
+    public void setup() {
+        keys = BenchmarkKeys.items(keyCount);
+        counter = new KeyCounter();
+        for (var key : keys) {
+            counter.add(key, 1);
+        }
+    }
+
+    /**
+     * Fills a new counter, like the network inventory is rebuilt from all mounted storages.
+     */
+    @Benchmark
+    public KeyCounter addNew() {
+        var result = new KeyCounter();
+        for (var key : keys) {
+            result.add(key, 64);
+        }
+        return result;
+    }
+
+    /**
+     * Adds to keys that are already present, like storage changes being applied to the cached network inventory.
+     */
+    @Benchmark
+    public KeyCounter addExisting() {
+        for (var key : keys) {
+            counter.add(key, 1);
+        }
+        return counter;
+    }
+
+    @Benchmark
+    public long get() {
+        long total = 0;
+        for (int i = 0; i < LOOKUPS; i++) {
+            total += counter.get(keys[i * keys.length / LOOKUPS]);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int findFuzzyIgnoreAll() {
+        return findFuzzy(FuzzyMode.IGNORE_ALL);
+    }
+
+    @Benchmark
+    public int findFuzzyPercent() {
+        return findFuzzy(FuzzyMode.PERCENT_50);
+    }
+
+    private int findFuzzy(FuzzyMode mode) {
+        int found = 0;
+        for (int i = 0; i < LOOKUPS; i++) {
+            found += counter.findFuzzy(keys[i * keys.length / LOOKUPS], mode).size();
+        }
+        return found;
+    }
+}
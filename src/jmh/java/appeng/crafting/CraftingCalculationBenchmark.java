@@ -0,0 +1,105 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2021, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.crafting;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import appeng.api.networking.crafting.CalculationStrategy;
+import appeng.api.networking.crafting.ICraftingPlan;
+import appeng.api.stacks.AEItemKey;
+import appeng.api.stacks.BenchmarkKeys;
+import appeng.api.stacks.GenericStack;
+import appeng.crafting.simulation.helpers.ProcessingPatternBuilder;
+import appeng.crafting.simulation.helpers.SimulationEnv;
+
+/**
+ * Plans crafting jobs for a generated recipe tree, in which every item is crafted from a number of different items of
+ * the next level, and only the items of the last level are stored.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CraftingCalculationBenchmark {
+    private static final int INPUTS_PER_PATTERN = 3;
+
+    @Param({ "3", "5" })
+    public int depth;
+
+    @Param({ "1", "1000" })
+    public long amount;
+
+    /**
+     * Whether the stored items are enough for the request. Otherwise the plan reports the missing items.
+     */
+    @Param({ "true", "false" })
+    public boolean enoughStored;
+
+    private SimulationEnv env;
+    private AEItemKey root;
+
+    @Setup
+    public void setup() {
+        // Levels 0 to depth, where level 0 is the single requested item
+        int itemCount = 0;
+        for (int level = 0, width = 1; level <= depth; level++, width *= INPUTS_PER_PATTERN) {
+            itemCount += width;
+        }
+        var keys = BenchmarkKeys.items(itemCount);
+
+        env = new SimulationEnv();
+        root = keys[0];
+        int levelStart = 0;
+        for (int level = 0, width = 1; level < depth; level++, width *= INPUTS_PER_PATTERN) {
+            int nextLevelStart = levelStart + width;
+            for (int i = 0; i < width; i++) {
+                var pattern = new ProcessingPatternBuilder(new GenericStack(keys[levelStart + i], 1));
+                for (int j = 0; j < INPUTS_PER_PATTERN; j++) {
+                    var input = keys[nextLevelStart + i * INPUTS_PER_PATTERN + j];
+                    pattern.addPreciseInput(j + 1, new GenericStack(input, 1));
+                }
+                env.addPattern(pattern.build());
+            }
+            levelStart = nextLevelStart;
+        }
+
+        // Only the leaves are stored
+        long perLeaf = enoughStored ? Long.MAX_VALUE / 2 : amount / 2;
+        for (int i = levelStart; i < itemCount; i++) {
+            env.addStoredItem(keys[i], perLeaf);
+        }
+    }
+
+    @Benchmark
+    public ICraftingPlan calculate() {
+        return env.runSimulation(new GenericStack(root, amount), CalculationStrategy.REPORT_MISSING_ITEMS);
+    }
+}
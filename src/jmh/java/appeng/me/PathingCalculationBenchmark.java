@@ -0,0 +1,100 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2021, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import appeng.api.networking.GridFlags;
+import appeng.blockentity.networking.ControllerBlockEntity;
+import appeng.me.pathfinding.PathingCalculation;
+
+/**
+ * Assigns channels in a synthetic grid that is laid out like a typical base: controllers with dense cables on each
+ * face, normal cables branching off the dense cables, and devices on the normal cables.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PathingCalculationBenchmark {
+    private static final int DENSE_CABLES_PER_CONTROLLER = 6;
+    private static final int CABLES_PER_DENSE_CABLE = 4;
+    private static final int DEVICES_PER_CABLE = 8;
+    private static final int DEVICES_PER_CONTROLLER = DENSE_CABLES_PER_CONTROLLER * CABLES_PER_DENSE_CABLE
+            * DEVICES_PER_CABLE;
+
+    @Param({ "100", "1000", "10000" })
+    public int devices;
+
+    private SyntheticGrid grid;
+
+    @Setup
+    public void setup() {
+        grid = new SyntheticGrid();
+
+        int controllerCount = (devices + DEVICES_PER_CONTROLLER - 1) / DEVICES_PER_CONTROLLER;
+        var controllers = new ArrayList<GridNode>(controllerCount);
+        for (int i = 0; i < controllerCount; i++) {
+            // Only the class of the owner matters for the pathing calculation
+            var owner = Mockito.mock(ControllerBlockEntity.class);
+            controllers.add(grid.addNode(i > 0 ? controllers.get(i - 1) : null, owner,
+                    GridFlags.CANNOT_CARRY, GridFlags.DENSE_CAPACITY));
+        }
+
+        int placed = 0;
+        for (int i = 0; placed < devices; i++) {
+            var controller = controllers.get(i / DENSE_CABLES_PER_CONTROLLER);
+            var dense = grid.addNode(controller, new Object(), GridFlags.DENSE_CAPACITY);
+            for (int j = 0; j < CABLES_PER_DENSE_CABLE && placed < devices; j++) {
+                var cable = grid.addNode(dense, new Object(), GridFlags.PREFERRED);
+                for (int k = 0; k < DEVICES_PER_CABLE && placed < devices; k++) {
+                    grid.addNode(cable, new Object(), GridFlags.REQUIRE_CHANNEL);
+                    placed++;
+                }
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        grid.destroy();
+    }
+
+    @Benchmark
+    public int compute() {
+        var calculation = new PathingCalculation(grid.getGrid());
+        calculation.compute();
+        return calculation.getChannelsInUse();
+    }
+}
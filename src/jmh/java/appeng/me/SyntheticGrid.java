@@ -0,0 +1,81 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2021, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.jetbrains.annotations.Nullable;
+import org.mockito.Mockito;
+
+import net.minecraft.server.level.ServerLevel;
+
+import appeng.api.networking.GridFlags;
+import appeng.api.networking.GridHelper;
+import appeng.api.networking.IGridNodeListener;
+import appeng.api.networking.IGridNodeService;
+
+/**
+ * Builds grids out of bare grid nodes for benchmarks, without any block entities or a real level. Nodes join the grid
+ * of the node they are connected to when they are added.
+ */
+final class SyntheticGrid {
+    private static final IGridNodeListener<Object> LISTENER = (owner, node) -> {
+    };
+
+    private final ServerLevel level = Mockito.mock(ServerLevel.class);
+    private final List<GridNode> nodes = new ArrayList<>();
+
+    ServerLevel getLevel() {
+        return level;
+    }
+
+    Grid getGrid() {
+        return nodes.getFirst().getMyGrid();
+    }
+
+    /**
+     * Adds a node that is connected to the given parent node, or that starts a new grid if there is no parent.
+     */
+    GridNode addNode(@Nullable GridNode parent, Object owner, GridFlags... flags) {
+        return addNode(parent, owner, null, null, flags);
+    }
+
+    <T extends IGridNodeService> GridNode addNode(@Nullable GridNode parent, Object owner,
+            @Nullable Class<T> serviceClass, @Nullable T service, GridFlags... flags) {
+        var node = new GridNode(level, owner, LISTENER, Set.of(flags));
+        if (serviceClass != null) {
+            node.addService(serviceClass, service);
+        }
+        if (parent != null) {
+            GridHelper.createConnection(parent, node);
+        }
+        node.markReady();
+        nodes.add(node);
+        return node;
+    }
+
+    void destroy() {
+        for (var node : nodes) {
+            node.destroy();
+        }
+        nodes.clear();
+    }
+}
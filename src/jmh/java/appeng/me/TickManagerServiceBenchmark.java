@@ -0,0 +1,133 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2021, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import appeng.api.networking.GridFlags;
+import appeng.api.networking.IGridNode;
+import appeng.api.networking.ticking.IGridTickable;
+import appeng.api.networking.ticking.TickRateModulation;
+import appeng.api.networking.ticking.TickingRequest;
+import appeng.me.service.TickManagerService;
+
+/**
+ * Runs the tick queue of a grid with many ticking nodes that keep changing their tick rates, go to sleep and are woken
+ * up or alerted again, like busy import/export buses and interfaces do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TickManagerServiceBenchmark {
+    private static final TickRateModulation[] MODULATIONS = {
+            TickRateModulation.SAME,
+            TickRateModulation.FASTER,
+            TickRateModulation.SLOWER,
+            TickRateModulation.SAME,
+            TickRateModulation.IDLE,
+            TickRateModulation.URGENT,
+            TickRateModulation.SLOWER,
+            TickRateModulation.SLEEP,
+    };
+
+    @Param({ "1000", "10000" })
+    public int tickingNodes;
+
+    /**
+     * The number of nodes that are woken up and alerted every tick.
+     */
+    @Param({ "10", "100" })
+    public int wakeUpsPerTick;
+
+    private SyntheticGrid grid;
+    private TickManagerService tickManager;
+    private final List<GridNode> nodes = new ArrayList<>();
+    private int nextWakeUp;
+
+    @Setup
+    public void setup() {
+        grid = new SyntheticGrid();
+        var hub = grid.addNode(null, new Object(), GridFlags.DENSE_CAPACITY);
+        for (int i = 0; i < tickingNodes; i++) {
+            // Spread out the tick rates like the different machines on a network
+            int minTickRate = 1 + i % 5;
+            int maxTickRate = minTickRate + 5 + i % 40;
+            var tickable = new BenchmarkTickable(new TickingRequest(minTickRate, maxTickRate, false), i);
+            nodes.add(grid.addNode(hub, new Object(), IGridTickable.class, tickable));
+        }
+        tickManager = (TickManagerService) grid.getGrid().getTickManager();
+    }
+
+    @TearDown
+    public void tearDown() {
+        grid.destroy();
+        nodes.clear();
+    }
+
+    @Benchmark
+    public void tick() {
+        for (int i = 0; i < wakeUpsPerTick; i++) {
+            var node = nodes.get(nextWakeUp);
+            nextWakeUp = (nextWakeUp + 1) % nodes.size();
+            if (!tickManager.wakeDevice(node)) {
+                tickManager.alertDevice(node);
+            }
+        }
+
+        tickManager.onServerStartTick();
+        tickManager.onLevelEndTick(grid.getLevel());
+        tickManager.onServerEndTick();
+    }
+
+    private static class BenchmarkTickable implements IGridTickable {
+        private final TickingRequest request;
+        private int calls;
+
+        BenchmarkTickable(TickingRequest request, int offset) {
+            this.request = request;
+            this.calls = offset;
+        }
+
+        @Override
+        public TickingRequest getTickingRequest(IGridNode node) {
+            return request;
+        }
+
+        @Override
+        public TickRateModulation tickingRequest(IGridNode node, int ticksSinceLastCall) {
+            return MODULATIONS[calls++ % MODULATIONS.length];
+        }
+    }
+}
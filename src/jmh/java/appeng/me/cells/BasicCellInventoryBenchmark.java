@@ -0,0 +1,116 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2021, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.cells;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.minecraft.world.item.ItemStack;
+
+import appeng.api.config.Actionable;
+import appeng.api.networking.security.IActionSource;
+import appeng.api.stacks.AEItemKey;
+import appeng.api.stacks.BenchmarkKeys;
+import appeng.api.stacks.KeyCounter;
+import appeng.core.definitions.AEItems;
+import appeng.me.helpers.BaseActionSource;
+
+/**
+ * Churns the contents of a basic storage cell. Like in a drive, changes are only marked as dirty and persisted
+ * separately.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BasicCellInventoryBenchmark {
+    private static final IActionSource SRC = new BaseActionSource();
+
+    private ItemStack cellStack;
+    private BasicCellInventory cell;
+    private AEItemKey[] keys;
+    private int nextKey;
+
+    @Setup
+    public void setup() {
+        cellStack = AEItems.ITEM_CELL_256K.stack();
+        cell = BasicCellInventory.createInventory(cellStack, () -> {
+        });
+        // Fill half of the types, and churn the other half
+        keys = BenchmarkKeys.items((int) cell.getTotalItemTypes());
+        for (int i = 0; i < keys.length / 2; i++) {
+            cell.insert(keys[i], 1000, Actionable.MODULATE, SRC);
+        }
+        cell.persist();
+    }
+
+    private AEItemKey nextKey() {
+        var key = keys[nextKey];
+        nextKey = (nextKey + 1) % keys.length;
+        return key;
+    }
+
+    /**
+     * Inserts and extracts again, which adds and removes a type for half of the keys.
+     */
+    @Benchmark
+    public long insertExtract() {
+        var key = nextKey();
+        var inserted = cell.insert(key, 64, Actionable.MODULATE, SRC);
+        return inserted + cell.extract(key, inserted, Actionable.MODULATE, SRC);
+    }
+
+    @Benchmark
+    public long simulateInsert() {
+        return cell.insert(nextKey(), 64, Actionable.SIMULATE, SRC);
+    }
+
+    /**
+     * Modifies the cell and then writes it back to its item stack, like a drive does at the end of a tick.
+     */
+    @Benchmark
+    public long insertAndPersist() {
+        var inserted = cell.insert(keys[0], 1, Actionable.MODULATE, SRC);
+        cell.persist();
+        return inserted;
+    }
+
+    /**
+     * Reads the cell from its item stack, like it happens whenever a cell is inserted into a drive or chest.
+     */
+    @Benchmark
+    public KeyCounter load() {
+        var loaded = BasicCellInventory.createInventory(cellStack, null);
+        var result = new KeyCounter();
+        if (loaded != null) {
+            loaded.getAvailableStacks(result);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2021, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.storage;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import appeng.api.config.Actionable;
+import appeng.api.networking.security.IActionSource;
+import appeng.api.stacks.AEItemKey;
+import appeng.api.stacks.BenchmarkKeys;
+import appeng.api.stacks.KeyCounter;
+import appeng.api.storage.StorageCells;
+import appeng.core.definitions.AEItems;
+import appeng.me.helpers.BaseActionSource;
+
+/**
+ * Inserts into and extracts from a network storage with a number of mounted storage cells, each of which holds some
+ * different item types.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class NetworkStorageBenchmark {
+    private static final IActionSource SRC = new BaseActionSource();
+
+    private static final int TYPES_PER_MOUNT = 32;
+
+    @Param({ "1", "16", "256" })
+    public int mounts;
+
+    private NetworkStorage storage;
+    private AEItemKey[] keys;
+    private AEItemKey missingKey;
+    private int nextKey;
+
+    @Setup
+    public void setup() {
+        var allKeys = BenchmarkKeys.items(mounts * TYPES_PER_MOUNT + 1);
+        keys = new AEItemKey[mounts * TYPES_PER_MOUNT];
+        System.arraycopy(allKeys, 0, keys, 0, keys.length);
+        missingKey = allKeys[keys.length];
+
+        storage = new NetworkStorage();
+        for (int i = 0; i < mounts; i++) {
+            var cell = StorageCells.getCellInventory(AEItems.ITEM_CELL_256K.stack(), null);
+            Objects.requireNonNull(cell);
+            for (int j = 0; j < TYPES_PER_MOUNT; j++) {
+                cell.insert(keys[i * TYPES_PER_MOUNT + j], 1000, Actionable.MODULATE, SRC);
+            }
+            // Spread the priorities a bit, like a network with differently prioritized drives
+            storage.mount(i % 4, cell);
+        }
+    }
+
+    private AEItemKey nextKey() {
+        var key = keys[nextKey];
+        nextKey = (nextKey + 1) % keys.length;
+        return key;
+    }
+
+    /**
+     * Inserts and extracts again an item type that is already stored in one of the mounts.
+     */
+    @Benchmark
+    public long insertExtractStored() {
+        var key = nextKey();
+        var inserted = storage.insert(key, 64, Actionable.MODULATE, SRC);
+        return inserted + storage.extract(key, inserted, Actionable.MODULATE, SRC);
+    }
+
+    @Benchmark
+    public long simulateInsertStored() {
+        return storage.insert(nextKey(), 64, Actionable.SIMULATE, SRC);
+    }
+
+    /**
+     * Tries to insert an item type that no mount holds yet, which ends up in the cell with the highest priority.
+     */
+    @Benchmark
+    public long insertExtractNew() {
+        var inserted = storage.insert(missingKey, 64, Actionable.MODULATE, SRC);
+        return inserted + storage.extract(missingKey, inserted, Actionable.MODULATE, SRC);
+    }
+
+    /**
+     * Tries to extract an item type that is not stored anywhere.
+     */
+    @Benchmark
+    public long extractMissing() {
+        return storage.extract(missingKey, 64, Actionable.MODULATE, SRC);
+    }
+
+    @Benchmark
+    public KeyCounter getAvailableStacks() {
+        var result = new KeyCounter();
+        storage.getAvailableStacks(result);
+        return result;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2021, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.util;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the JMH benchmarks as a single JUnit test, so that Minecraft and AE2 are bootstrapped the same way as for the
+ * unit tests. Started by the <code>jmh</code> Gradle task.
+ * <p/>
+ * The game can only be bootstrapped once per JVM, and only by the JUnit launcher, so the benchmarks are not forked into
+ * separate JVMs. Compare results from the same machine and the same run configuration only.
+ */
+@BootstrapMinecraft
+class JmhRunner {
+    @Test
+    void runBenchmarks() throws RunnerException {
+        var options = new OptionsBuilder()
+                .include(System.getProperty("appeng.jmh.includes", ".*"))
+                .forks(0)
+                .resultFormat(ResultFormatType.JSON)
+                .result(System.getProperty("appeng.jmh.results", "jmh-results.json"))
+                .build();
+        new Runner(options).run();
+    }
+}
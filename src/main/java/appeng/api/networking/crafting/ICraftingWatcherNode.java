@@ -23,6 +23,8 @@
 
 package appeng.api.networking.crafting;
 
+import java.util.Set;
+
 import appeng.api.networking.IGridNodeService;
 import appeng.api.networking.IStackWatcher;
 import appeng.api.stacks.AEKey;
@@ -54,4 +56,30 @@ public interface ICraftingWatcherNode extends IGridNodeService {
      * @param what changed key
      */
     void onCraftableChange(AEKey what);
+
+    /**
+     * Called once with all keys whose crafting status changed, if this node
+     * {@linkplain IStackWatcher#setWatchAll(boolean) watches all stacks}. By default, calls {@link #onRequestChange}
+     * for each key.
+     *
+     * @param changed changed keys. Only valid during this call.
+     */
+    default void onRequestChanges(Set<AEKey> changed) {
+        for (var what : changed) {
+            onRequestChange(what);
+        }
+    }
+
+    /**
+     * Called once with all keys whose craftable status changed, if this node
+     * {@linkplain IStackWatcher#setWatchAll(boolean) watches all stacks}. By default, calls
+     * {@link #onCraftableChange} for each key.
+     *
+     * @param changed changed keys. Only valid during this call.
+     */
+    default void onCraftableChanges(Set<AEKey> changed) {
+        for (var what : changed) {
+            onCraftableChange(what);
+        }
+    }
 }
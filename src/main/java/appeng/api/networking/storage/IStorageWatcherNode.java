@@ -23,6 +23,9 @@
 
 package appeng.api.networking.storage;
 
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongMaps;
+
 import appeng.api.networking.IGridNodeService;
 import appeng.api.networking.IStackWatcher;
 import appeng.api.stacks.AEKey;
@@ -48,4 +51,18 @@ public interface IStorageWatcherNode extends IGridNodeService {
      * @param amount New amount in the network
      */
     void onStackChange(AEKey what, long amount);
+
+    /**
+     * Called once per tick with all changes that happened during the tick, if this node
+     * {@linkplain IStackWatcher#setWatchAll(boolean) watches all stacks}. Nodes that only need to know that something
+     * changed should override this to avoid being called for each changed key. By default, calls
+     * {@link #onStackChange} for each change.
+     *
+     * @param changes The changed keys and their new amount in the network. Only valid during this call.
+     */
+    default void onStackChanges(Object2LongMap<AEKey> changes) {
+        for (var entry : Object2LongMaps.fastIterable(changes)) {
+            onStackChange(entry.getKey(), entry.getLongValue());
+        }
+    }
 }
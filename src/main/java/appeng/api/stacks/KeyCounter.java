@@ -53,6 +53,27 @@ public Collection<Object2LongMap.Entry<AEKey>> findFuzzy(AEKey key, FuzzyMode fu
         return subIndex == null ? List.of() : subIndex.findFuzzy(key, fuzzy);
     }
 
+    /**
+     * Sums the amounts of all keys that would be returned by {@link #findFuzzy}. For keys that don't support damage
+     * ranges, and when ignoring damage, this does not need to iterate over the variants.
+     */
+    public long getFuzzyTotal(AEKey key, FuzzyMode fuzzy) {
+        Objects.requireNonNull(key, "key");
+        var subIndex = getSubIndexOrNull(key);
+        return subIndex == null ? 0 : subIndex.getFuzzyTotal(key, fuzzy);
+    }
+
+    /**
+     * @return The sum of the amounts of all keys in this counter.
+     */
+    public long getTotal() {
+        long total = 0;
+        for (var list : lists.values()) {
+            total += list.getTotal();
+        }
+        return total;
+    }
+
     public void removeZeros() {
         var iterator = lists.entrySet().iterator();
         while (iterator.hasNext()) {
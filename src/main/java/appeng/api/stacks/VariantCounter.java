@@ -19,6 +19,12 @@ abstract class VariantCounter implements Iterable<Object2LongMap.Entry<AEKey>> {
      */
     private boolean dropZeros;
 
+    /**
+     * The sum of all amounts in this counter. Updated on every modification, so that it doesn't have to be computed by
+     * iterating over all variants.
+     */
+    private long total;
+
     public boolean isDropZeros() {
         return dropZeros;
     }
@@ -33,18 +39,41 @@ public long get(AEKey key) {
 
     public void add(AEKey key, long amount) {
         this.getRecords().addTo(key, amount);
+        this.total += amount;
     }
 
     public void set(AEKey key, long amount) {
+        long previous;
         if (dropZeros && amount == 0) {
-            getRecords().removeLong(key);
+            previous = getRecords().removeLong(key);
         } else {
-            getRecords().put(key, amount);
+            previous = getRecords().put(key, amount);
         }
+        this.total += amount - previous;
     }
 
     public long remove(AEKey key) {
-        return getRecords().removeLong(key);
+        var previous = getRecords().removeLong(key);
+        this.total -= previous;
+        return previous;
+    }
+
+    /**
+     * @return The sum of the amounts of all variants in this counter.
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Sums the amounts of all variants that would be returned by {@link #findFuzzy}.
+     */
+    public long getFuzzyTotal(AEKey filter, FuzzyMode fuzzy) {
+        long result = 0;
+        for (var entry : findFuzzy(filter, fuzzy)) {
+            result += entry.getLongValue();
+        }
+        return result;
     }
 
     public void addAll(VariantCounter other) {
@@ -110,10 +139,12 @@ public void reset() {
         } else {
             getRecords().replaceAll((key, value) -> 0L);
         }
+        total = 0;
     }
 
     public void clear() {
         getRecords().clear();
+        total = 0;
     }
 
     public abstract VariantCounter copy();
@@ -122,6 +153,7 @@ public void invert() {
         for (var entry : getRecords().object2LongEntrySet()) {
             entry.setValue(-entry.getLongValue());
         }
+        total = -total;
     }
 
     public void removeZeros() {
@@ -193,6 +225,11 @@ public Collection<Object2LongMap.Entry<AEKey>> findFuzzy(AEKey filter, FuzzyMode
             return records.object2LongEntrySet();
         }
 
+        @Override
+        public long getFuzzyTotal(AEKey filter, FuzzyMode fuzzy) {
+            return getTotal();
+        }
+
         @Override
         AEKey2LongMap getRecords() {
             return records;
@@ -201,7 +238,7 @@ AEKey2LongMap getRecords() {
         @Override
         public VariantCounter copy() {
             var result = new UnorderedVariantMap();
-            result.records.putAll(records);
+            result.addAll(this);
             return result;
         }
     }
@@ -219,6 +256,18 @@ public Collection<Object2LongMap.Entry<AEKey>> findFuzzy(AEKey key, FuzzyMode fu
             return FuzzySearch.findFuzzy((Object2LongSortedMap<AEKey>) records, key, fuzzy).object2LongEntrySet();
         }
 
+        @Override
+        public long getFuzzyTotal(AEKey filter, FuzzyMode fuzzy) {
+            // The records are sorted from most to least damaged. If all variants are within the damage range of the
+            // filter, ignoring damage matches all of them.
+            if (fuzzy == FuzzyMode.IGNORE_ALL && (records.isEmpty()
+                    || records.firstKey().getFuzzySearchValue() <= filter.getFuzzySearchMaxValue()
+                            && records.lastKey().getFuzzySearchValue() >= 0)) {
+                return getTotal();
+            }
+            return super.getFuzzyTotal(filter, fuzzy);
+        }
+
         @Override
         AEKey2LongMap getRecords() {
             return this.records;
@@ -227,7 +276,7 @@ AEKey2LongMap getRecords() {
         @Override
         public VariantCounter copy() {
             var result = new FuzzyVariantMap();
-            result.records.putAll(records);
+            result.addAll(this);
             return result;
         }
     }
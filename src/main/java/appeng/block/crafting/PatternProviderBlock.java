@@ -60,6 +60,7 @@ public void neighborChanged(BlockState state, Level level, BlockPos pos, Block b
         var be = this.getBlockEntity(level, pos);
         if (be != null) {
             be.getLogic().updateRedstoneState();
+            be.getLogic().onAdjacentBlocksChanged();
         }
     }
 
@@ -102,5 +103,11 @@ public void setSide(Level level, BlockPos pos, Direction facing) {
         }
 
         level.setBlockAndUpdate(pos, currentState.setValue(PUSH_DIRECTION, newPushDirection));
+
+        // The push direction determines which adjacent machines the provider is grouped by
+        var be = this.getBlockEntity(level, pos);
+        if (be != null) {
+            be.getLogic().onAdjacentBlocksChanged();
+        }
     }
 }
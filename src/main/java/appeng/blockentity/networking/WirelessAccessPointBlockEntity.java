@@ -41,6 +41,7 @@
 import appeng.blockentity.grid.AENetworkedInvBlockEntity;
 import appeng.core.AEConfig;
 import appeng.core.definitions.AEItems;
+import appeng.me.service.WirelessAccessPointService;
 import appeng.util.inv.AppEngInternalInventory;
 import appeng.util.inv.filter.AEItemDefinitionFilter;
 
@@ -124,7 +125,7 @@ private void updatePower() {
         this.getMainNode().setIdlePowerUsage(AEConfig.instance().wireless_getPowerDrain(this.getBoosters()));
     }
 
-    private int getBoosters() {
+    public int getBoosters() {
         final ItemStack boosters = this.inv.getStackInSlot(0);
         return boosters == null ? 0 : boosters.getCount();
     }
@@ -132,6 +133,7 @@ private int getBoosters() {
     @Override
     public void saveChanges() {
         this.updatePower();
+        getMainNode().ifPresent(grid -> WirelessAccessPointService.get(grid).onRangeChanged(this));
         super.saveChanges();
     }
 
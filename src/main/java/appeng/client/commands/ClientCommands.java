@@ -4,16 +4,21 @@
 
 import com.mojang.brigadier.builder.LiteralArgumentBuilder;
 
+import net.minecraft.client.Minecraft;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
 import net.minecraft.network.chat.Component;
 
+import appeng.client.render.BakedModelUnwrapper;
+import appeng.client.render.cablebus.CableBusBakedModel;
 import appeng.core.AEConfig;
+import appeng.core.definitions.AEBlocks;
 
 public final class ClientCommands {
 
     public static final List<CommandBuilder> DEBUG_COMMANDS = List.of(
-            ClientCommands::highlightGuiAreas);
+            ClientCommands::highlightGuiAreas,
+            ClientCommands::modelCacheStats);
 
     private ClientCommands() {
     }
@@ -33,4 +38,25 @@ private static void highlightGuiAreas(LiteralArgumentBuilder<CommandSourceStack>
             return 0;
         }));
     }
+
+    private static void modelCacheStats(LiteralArgumentBuilder<CommandSourceStack> builder) {
+        builder.then(Commands.literal("model_cache_stats").executes(context -> {
+            var src = context.getSource();
+            var model = Minecraft.getInstance().getBlockRenderer()
+                    .getBlockModel(AEBlocks.CABLE_BUS.block().defaultBlockState());
+            var cableBusModel = BakedModelUnwrapper.unwrap(model, CableBusBakedModel.class);
+            if (cableBusModel == null) {
+                src.sendFailure(Component.literal("Cable bus model is not loaded"));
+                return 0;
+            }
+
+            for (var entry : cableBusModel.getCacheStats().entrySet()) {
+                var stats = entry.getValue();
+                src.sendSystemMessage(Component.literal(String.format("%s: %d hits, %d misses (%.1f%%), %d evictions",
+                        entry.getKey(), stats.hitCount(), stats.missCount(), stats.hitRate() * 100,
+                        stats.evictionCount())));
+            }
+            return 0;
+        }));
+    }
 }
@@ -26,6 +26,7 @@
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 import com.google.common.collect.BiMap;
@@ -47,6 +48,7 @@
 import appeng.api.config.ViewItems;
 import appeng.api.stacks.AEItemKey;
 import appeng.api.stacks.AEKey;
+import appeng.api.stacks.AEKeyType;
 import appeng.client.gui.me.search.RepoSearch;
 import appeng.client.gui.widgets.IScrollSource;
 import appeng.client.gui.widgets.ISortSource;
@@ -91,6 +93,11 @@ public class Repo implements IClientRepo {
     private final IScrollSource src;
     private final ISortSource sortSrc;
     private boolean paused;
+    /**
+     * The settings the view was last sorted and filtered with. Null if the view needs to be rebuilt from scratch.
+     */
+    @Nullable
+    private ViewSettings viewSettings;
 
     public Repo(IScrollSource src, ISortSource sortSrc) {
         this.src = src;
@@ -110,6 +117,19 @@ public final void handleUpdate(boolean fullUpdate, List<GridInventoryEntry> entr
             clear();
         }
 
+        if (!fullUpdate && canUpdateViewIncrementally()) {
+            for (var entry : entries) {
+                var previousEntry = this.entries.get(entry.getSerial());
+                handleUpdate(entry);
+                updateViewEntry(previousEntry, this.entries.get(entry.getSerial()));
+            }
+
+            if (this.updateViewListener != null) {
+                this.updateViewListener.run();
+            }
+            return;
+        }
+
         for (var entry : entries) {
             handleUpdate(entry);
         }
@@ -117,6 +137,65 @@ public final void handleUpdate(boolean fullUpdate, List<GridInventoryEntry> entr
         updateView();
     }
 
+    /**
+     * The view can only be updated in-place if it's already sorted and filtered according to the current settings.
+     * Pinned entries and paused views have special rules for where entries go, which are only applied by
+     * {@link #updateView()}.
+     */
+    private boolean canUpdateViewIncrementally() {
+        return this.viewSettings != null
+                && !isPaused()
+                && this.pinnedRow.isEmpty()
+                && PinnedKeys.isEmpty()
+                && this.viewSettings.equals(getCurrentViewSettings());
+    }
+
+    /**
+     * Moves a single entry to its sorted position in the view, after it was changed by the server. Uses binary search
+     * instead of re-sorting the entire view, since comparing entries by name is expensive.
+     */
+    private void updateViewEntry(@Nullable GridInventoryEntry previousEntry, @Nullable GridInventoryEntry entry) {
+        var comparator = this.viewSettings.comparator();
+
+        if (previousEntry != null) {
+            int idx = Collections.binarySearch(this.view, previousEntry, comparator);
+            if (idx >= 0) {
+                // Multiple entries may compare as equal, find the actual one
+                int start = idx;
+                while (start > 0 && comparator.compare(this.view.get(start - 1), previousEntry) == 0) {
+                    start--;
+                }
+                for (int i = start; i < this.view.size(); i++) {
+                    var candidate = this.view.get(i);
+                    if (candidate == previousEntry) {
+                        this.view.remove(i);
+                        break;
+                    } else if (comparator.compare(candidate, previousEntry) != 0) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        if (entry != null && isShownInView(entry, this.viewSettings.viewMode(), this.viewSettings.typeFilter())) {
+            int idx = Collections.binarySearch(this.view, entry, comparator);
+            this.view.add(idx >= 0 ? idx : -idx - 1, entry);
+        }
+    }
+
+    private ViewSettings getCurrentViewSettings() {
+        var sortOrder = this.sortSrc.getSortBy();
+        var sortDir = this.sortSrc.getSortDir();
+        return new ViewSettings(
+                sortOrder,
+                sortDir,
+                this.sortSrc.getSortDisplay(),
+                this.sortSrc.getSortKeyTypes(),
+                this.partitionList,
+                this.search.getSearchString(),
+                getComparator(sortOrder, sortDir));
+    }
+
     private void handleUpdate(GridInventoryEntry serverEntry) {
         entriesByItemIdNeedsUpdate = true;
 
@@ -149,6 +228,8 @@ private void handleUpdate(GridInventoryEntry serverEntry) {
     }
 
     public final void updateView() {
+        this.viewSettings = null;
+
         // While the view is paused, we try to only append to the view list in order to avoid mis-clicks by the
         // player due to items shifting under their mouse cursor.
         if (isPaused()) {
@@ -195,10 +276,9 @@ public final void updateView() {
             // Sort older entries first in the pinned row
             pinnedRow.sort(PINNED_ROW_COMPARATOR);
 
-            var sortOrder = this.sortSrc.getSortBy();
-            var sortDir = this.sortSrc.getSortDir();
-
-            this.view.sort(getComparator(sortOrder, sortDir));
+            var viewSettings = getCurrentViewSettings();
+            this.view.sort(viewSettings.comparator());
+            this.viewSettings = viewSettings;
         }
 
         if (this.updateViewListener != null) {
@@ -219,23 +299,7 @@ private void addEntriesToView(Collection<GridInventoryEntry> entries) {
                 continue;
             }
 
-            if (this.partitionList != null && !this.partitionList.isListed(entry.getWhat())) {
-                continue;
-            }
-
-            if (viewMode == ViewItems.CRAFTABLE && !entry.isCraftable()) {
-                continue;
-            }
-
-            if (viewMode == ViewItems.STORED && entry.getStoredAmount() == 0) {
-                continue;
-            }
-
-            if (!typeFilter.contains(entry.getWhat().getType())) {
-                continue;
-            }
-
-            if (search.matches(entry)) {
+            if (isShownInView(entry, viewMode, typeFilter)) {
                 this.view.add(entry);
             }
         }
@@ -255,6 +319,26 @@ private void addEntriesToView(Collection<GridInventoryEntry> entries) {
         }
     }
 
+    private boolean isShownInView(GridInventoryEntry entry, ViewItems viewMode, Set<AEKeyType> typeFilter) {
+        if (this.partitionList != null && !this.partitionList.isListed(entry.getWhat())) {
+            return false;
+        }
+
+        if (viewMode == ViewItems.CRAFTABLE && !entry.isCraftable()) {
+            return false;
+        }
+
+        if (viewMode == ViewItems.STORED && entry.getStoredAmount() == 0) {
+            return false;
+        }
+
+        if (!typeFilter.contains(entry.getWhat().getType())) {
+            return false;
+        }
+
+        return search.matches(entry);
+    }
+
     private void updateEntriesWhilePaused(List<GridInventoryEntry> shownEntries, LongSet visibleSerials) {
         for (int i = 0; i < shownEntries.size(); i++) {
             var entry = shownEntries.get(i);
@@ -354,6 +438,7 @@ public final int size() {
     }
 
     public final void clear() {
+        this.viewSettings = null;
         this.entries.clear();
         this.view.clear();
         this.pinnedRow.clear();
@@ -473,4 +558,29 @@ public boolean isCraftable(AEKey what) {
         }
         return false;
     }
+
+    private record ViewSettings(SortOrder sortOrder,
+            SortDir sortDir,
+            ViewItems viewMode,
+            Set<AEKeyType> typeFilter,
+            @Nullable IPartitionList partitionList,
+            String searchString,
+            Comparator<? super GridInventoryEntry> comparator) {
+        @Override
+        public boolean equals(Object o) {
+            // The comparator is derived from the sort order and direction
+            return o instanceof ViewSettings other
+                    && sortOrder == other.sortOrder
+                    && sortDir == other.sortDir
+                    && viewMode == other.viewMode
+                    && typeFilter.equals(other.typeFilter)
+                    && partitionList == other.partitionList
+                    && searchString.equals(other.searchString);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sortOrder, sortDir, viewMode, typeFilter, searchString);
+        }
+    }
 }
@@ -439,6 +439,14 @@ public void postFullUpdate(long inventoryId,
         this.refreshList();
     }
 
+    public void postRemoval(long inventoryId) {
+        if (this.byId.remove(inventoryId) != null) {
+            // invalid caches on refresh
+            this.cachedSearches.clear();
+            this.refreshList();
+        }
+    }
+
     public void postIncrementalUpdate(long inventoryId,
             Int2ObjectMap<ItemStack> slots) {
         var record = byId.get(inventoryId);
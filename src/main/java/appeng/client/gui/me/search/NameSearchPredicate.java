@@ -1,5 +1,6 @@
 package appeng.client.gui.me.search;
 
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Predicate;
 
@@ -8,15 +9,18 @@
 
 final class NameSearchPredicate implements Predicate<GridInventoryEntry> {
     private final String term;
+    private final Map<AEKey, String> nameCache;
 
-    public NameSearchPredicate(String term) {
+    public NameSearchPredicate(String term, Map<AEKey, String> nameCache) {
         this.term = term.toLowerCase();
+        this.nameCache = nameCache;
     }
 
     @Override
     public boolean test(GridInventoryEntry gridInventoryEntry) {
         AEKey entryInfo = Objects.requireNonNull(gridInventoryEntry.getWhat());
-        String displayName = entryInfo.getDisplayName().getString();
-        return displayName.toLowerCase().contains(term);
+        String displayName = nameCache.computeIfAbsent(entryInfo,
+                key -> key.getDisplayName().getString().toLowerCase());
+        return displayName.contains(term);
     }
 }
@@ -7,6 +7,7 @@
 import java.util.function.Predicate;
 
 import it.unimi.dsi.fastutil.longs.Long2BooleanMap;
+import it.unimi.dsi.fastutil.longs.Long2BooleanMaps;
 import it.unimi.dsi.fastutil.longs.Long2BooleanOpenHashMap;
 
 import appeng.api.stacks.AEKey;
@@ -20,6 +21,7 @@ public class RepoSearch {
     private final Long2BooleanMap cache = new Long2BooleanOpenHashMap();
     private Predicate<GridInventoryEntry> search = (e) -> true;
     final Map<AEKey, String> tooltipCache = new WeakHashMap<>();
+    final Map<AEKey, String> nameCache = new WeakHashMap<>();
 
     public RepoSearch() {
     }
@@ -30,12 +32,33 @@ public String getSearchString() {
 
     public void setSearchString(String searchString) {
         if (!searchString.equals(this.searchString)) {
+            if (isRefinement(this.searchString, searchString)) {
+                // Entries that didn't match the previous query can't match this one either, only the previous
+                // matches need to be tested again
+                for (var it = Long2BooleanMaps.fastIterator(this.cache); it.hasNext();) {
+                    if (it.next().getBooleanValue()) {
+                        it.remove();
+                    }
+                }
+            } else {
+                this.cache.clear();
+            }
             this.search = fromString(searchString);
             this.searchString = searchString;
-            this.cache.clear();
         }
     }
 
+    /**
+     * All search terms are substring matches, so appending to a query can only narrow down its results, unless the
+     * appended text starts a new alternative using {@code |}. Typing a query character by character is the common case
+     * for this.
+     */
+    private static boolean isRefinement(String previous, String current) {
+        // A trailing | in the previous query doesn't start an alternative yet since empty terms are dropped, so the
+        // appended text would widen the search as well
+        return current.startsWith(previous) && current.indexOf('|', previous.length() - 1) == -1;
+    }
+
     public boolean matches(GridInventoryEntry entry) {
         return cache.computeIfAbsent(entry.getSerial(), s -> search.test(entry));
     }
@@ -77,7 +100,7 @@ private List<Predicate<GridInventoryEntry>> getPredicates(String query) {
             } else if (part.startsWith("*")) {
                 predicateFilters.add(new ItemIdSearchPredicate(part.substring(1)));
             } else {
-                predicateFilters.add(new NameSearchPredicate(part));
+                predicateFilters.add(new NameSearchPredicate(part, nameCache));
             }
         }
 
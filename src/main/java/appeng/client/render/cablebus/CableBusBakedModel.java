@@ -21,13 +21,16 @@
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
 import com.google.common.cache.LoadingCache;
 import com.google.common.cache.Weigher;
 
@@ -42,6 +45,7 @@
 import net.minecraft.client.renderer.texture.MissingTextureAtlasSprite;
 import net.minecraft.client.renderer.texture.TextureAtlasSprite;
 import net.minecraft.client.resources.model.BakedModel;
+import net.minecraft.client.resources.model.SimpleBakedModel;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.resources.ResourceLocation;
@@ -65,6 +69,9 @@ public class CableBusBakedModel implements IDynamicBakedModel {
     // The number of quads overall that will be cached
     private static final int CACHE_QUAD_COUNT = 5000;
 
+    // The number of rotated part quads overall that will be cached
+    private static final int PART_CACHE_QUAD_COUNT = 20000;
+
     /**
      * Lookup table to match the spin of a part with an up direction.
      * <p>
@@ -91,7 +98,9 @@ public class CableBusBakedModel implements IDynamicBakedModel {
     private record FacadeModelData(EnumMap<Direction, ModelData> facadeData, BlockAndTintGetter level) {
     }
 
-    private final LoadingCache<CableBusRenderState, List<BakedQuad>> cableModelCache;
+    private final LoadingCache<CableQuadsKey, List<BakedQuad>> cableModelCache;
+
+    private final LoadingCache<PartQuadsKey, List<BakedQuad>> partModelCache;
 
     private final CableBuilder cableBuilder;
 
@@ -109,15 +118,40 @@ private record FacadeModelData(EnumMap<Direction, ModelData> facadeData, BlockAn
         this.particleTexture = particleTexture;
         this.cableModelCache = CacheBuilder.newBuilder()//
                 .maximumWeight(CACHE_QUAD_COUNT)//
-                .weigher((Weigher<CableBusRenderState, List<BakedQuad>>) (key, value) -> value.size())//
-                .build(new CacheLoader<CableBusRenderState, List<BakedQuad>>() {
+                .weigher((Weigher<CableQuadsKey, List<BakedQuad>>) (key, value) -> value.size())//
+                .recordStats()//
+                .build(new CacheLoader<CableQuadsKey, List<BakedQuad>>() {
                     @Override
-                    public List<BakedQuad> load(CableBusRenderState renderState) {
+                    public List<BakedQuad> load(CableQuadsKey key) {
                         final List<BakedQuad> model = new ArrayList<>();
-                        addCableQuads(renderState, model);
+                        addCableQuads(key, model);
                         return model;
                     }
                 });
+        this.partModelCache = CacheBuilder.newBuilder()//
+                .maximumWeight(PART_CACHE_QUAD_COUNT)//
+                .weigher((Weigher<PartQuadsKey, List<BakedQuad>>) (key, value) -> value.size())//
+                .recordStats()//
+                .build(new CacheLoader<PartQuadsKey, List<BakedQuad>>() {
+                    @Override
+                    public List<BakedQuad> load(PartQuadsKey key) {
+                        final List<BakedQuad> quads = new ArrayList<>();
+                        addPartQuads(key.model().getQuads(null, null, RandomSource.create()), key.facing(),
+                                key.spin(), quads);
+                        return quads;
+                    }
+                });
+    }
+
+    /**
+     * @return Hit-rate statistics of the model caches used by this model, by name.
+     */
+    public Map<String, CacheStats> getCacheStats() {
+        var result = new LinkedHashMap<String, CacheStats>();
+        result.put("cables", cableModelCache.stats());
+        result.put("parts", partModelCache.stats());
+        result.put("facades", facadeBuilder.getCacheStats());
+        return result;
     }
 
     @Override
@@ -162,12 +196,9 @@ public List<BakedQuad> getQuads(@Nullable BlockState state, @Nullable Direction
         if (renderType == null || renderType == RenderType.cutout()) {
 
             // First, handle the cable at the center of the cable bus
-            final List<BakedQuad> cableModel = cableModelCache.getUnchecked(renderState);
+            final List<BakedQuad> cableModel = cableModelCache.getUnchecked(CableQuadsKey.of(renderState));
             quads.addAll(cableModel);
 
-            var meshBuilder = new MeshBuilderImpl();
-            var emitter = meshBuilder.getEmitter();
-
             // Then handle attachments
             for (Direction facing : Direction.values()) {
                 final IPartModel partModel = renderState.getAttachments().get(facing);
@@ -187,17 +218,13 @@ public List<BakedQuad> getQuads(@Nullable BlockState state, @Nullable Direction
                         throw new IllegalStateException("Trying to use an unregistered part model: " + model);
                     }
 
-                    List<BakedQuad> partQuads = bakedModel.getQuads(state, null, rand, partModelData, renderType);
-
                     var spin = getPartSpin(partModelData);
 
-                    // Rotate quads accordingly
-                    var rotator = QuadRotator.get(facing, spin);
-
-                    for (var partQuad : partQuads) {
-                        emitter.fromVanilla(partQuad, null);
-                        rotator.transform(emitter);
-                        quads.add(emitter.toBakedQuad(partQuad.getSprite()));
+                    if (isCacheable(bakedModel)) {
+                        quads.addAll(partModelCache.getUnchecked(new PartQuadsKey(bakedModel, facing, spin)));
+                    } else {
+                        List<BakedQuad> partQuads = bakedModel.getQuads(state, null, rand, partModelData, renderType);
+                        addPartQuads(partQuads, facing, spin, quads);
                     }
                 }
             }
@@ -213,6 +240,28 @@ public List<BakedQuad> getQuads(@Nullable BlockState state, @Nullable Direction
         return quads;
     }
 
+    /**
+     * The quads of simple models do not depend on the block state, random source, model data or render type. Only the
+     * side and spin of the part need to be part of the cache key.
+     */
+    private static boolean isCacheable(BakedModel model) {
+        return model.getClass() == SimpleBakedModel.class;
+    }
+
+    private static void addPartQuads(List<BakedQuad> partQuads, Direction facing, int spin, List<BakedQuad> quadsOut) {
+        var meshBuilder = new MeshBuilderImpl();
+        var emitter = meshBuilder.getEmitter();
+
+        // Rotate quads accordingly
+        var rotator = QuadRotator.get(facing, spin);
+
+        for (var partQuad : partQuads) {
+            emitter.fromVanilla(partQuad, null);
+            rotator.transform(emitter);
+            quadsOut.add(emitter.toBakedQuad(partQuad.getSprite()));
+        }
+    }
+
     // Determines whether a cable is connected to exactly two sides that are
     // opposite each other
     private static boolean isStraightLine(AECableType cableType, EnumMap<Direction, AECableType> sides) {
@@ -249,20 +298,19 @@ private static int getPartSpin(ModelData partModelData) {
         return 0;
     }
 
-    private void addCableQuads(CableBusRenderState renderState, List<BakedQuad> quadsOut) {
-        AECableType cableType = renderState.getCableType();
+    private void addCableQuads(CableQuadsKey key, List<BakedQuad> quadsOut) {
+        AECableType cableType = key.cableType();
         if (cableType == AECableType.NONE) {
             return;
         }
 
-        AEColor cableColor = renderState.getCableColor();
-        EnumMap<Direction, AECableType> connectionTypes = renderState.getConnectionTypes();
+        AEColor cableColor = key.cableColor();
+        EnumMap<Direction, AECableType> connectionTypes = key.connectionTypes();
 
         // If the connection is straight, no busses are attached, and no covered core
         // has been forced (in case of glass
         // cables), then render the cable as a simplified straight line.
-        boolean noAttachments = !renderState.getAttachments().values().stream()
-                .anyMatch(IPartModel::requireCableConnection);
+        boolean noAttachments = !key.attachmentsRequireCable();
         if (noAttachments && isStraightLine(cableType, connectionTypes)) {
             Direction facing = connectionTypes.keySet().iterator().next();
 
@@ -275,14 +323,14 @@ private void addCableQuads(CableBusRenderState renderState, List<BakedQuad> quad
                     break;
                 case SMART:
                     this.cableBuilder.addStraightSmartConnection(facing, cableColor,
-                            renderState.getChannelsOnSide().get(facing), quadsOut);
+                            key.channelsOnSide().get(facing), quadsOut);
                     break;
                 case DENSE_COVERED:
                     this.cableBuilder.addStraightDenseCoveredConnection(facing, cableColor, quadsOut);
                     break;
                 case DENSE_SMART:
                     this.cableBuilder.addStraightDenseSmartConnection(facing, cableColor,
-                            renderState.getChannelsOnSide().get(facing), quadsOut);
+                            key.channelsOnSide().get(facing), quadsOut);
                     break;
                 default:
                     break;
@@ -291,13 +339,13 @@ private void addCableQuads(CableBusRenderState renderState, List<BakedQuad> quad
             return; // Don't render the other form of connection
         }
 
-        this.cableBuilder.addCableCore(renderState.getCoreType(), cableColor, quadsOut);
+        this.cableBuilder.addCableCore(key.coreType(), cableColor, quadsOut);
 
         // Render all internal connections to attachments
-        EnumMap<Direction, Integer> attachmentConnections = renderState.getAttachmentConnections();
+        EnumMap<Direction, Integer> attachmentConnections = key.attachmentConnections();
         for (Direction facing : attachmentConnections.keySet()) {
             int distance = attachmentConnections.get(facing);
-            int channels = renderState.getChannelsOnSide().get(facing);
+            int channels = key.channelsOnSide().get(facing);
 
             switch (cableType) {
                 case GLASS:
@@ -322,8 +370,8 @@ private void addCableQuads(CableBusRenderState renderState, List<BakedQuad> quad
         for (Entry<Direction, AECableType> connection : connectionTypes.entrySet()) {
             final Direction facing = connection.getKey();
             final AECableType connectionType = connection.getValue();
-            final boolean cableBusAdjacent = renderState.getCableBusAdjacent().contains(facing);
-            final int channels = renderState.getChannelsOnSide().get(facing);
+            final boolean cableBusAdjacent = key.cableBusAdjacent().contains(facing);
+            final int channels = key.channelsOnSide().get(facing);
 
             switch (cableType) {
                 case GLASS:
@@ -433,4 +481,43 @@ public ItemOverrides getOverrides() {
     public ChunkRenderTypeSet getRenderTypes(BlockState state, RandomSource rand, ModelData data) {
         return ChunkRenderTypeSet.all();
     }
+
+    /**
+     * The part of a {@link CableBusRenderState} that determines the cable quads. Unlike the full render state, this
+     * does not include the model data of parts, which would otherwise prevent cache hits for cables with parts.
+     */
+    private record CableQuadsKey(AECableType cableType,
+            CableCoreType coreType,
+            AEColor cableColor,
+            EnumMap<Direction, AECableType> connectionTypes,
+            EnumSet<Direction> cableBusAdjacent,
+            EnumMap<Direction, Integer> channelsOnSide,
+            EnumMap<Direction, Integer> attachmentConnections,
+            boolean attachmentsRequireCable) {
+        static CableQuadsKey of(CableBusRenderState renderState) {
+            boolean attachmentsRequireCable = false;
+            for (var partModel : renderState.getAttachments().values()) {
+                if (partModel.requireCableConnection()) {
+                    attachmentsRequireCable = true;
+                    break;
+                }
+            }
+
+            return new CableQuadsKey(
+                    renderState.getCableType(),
+                    renderState.getCoreType(),
+                    renderState.getCableColor(),
+                    renderState.getConnectionTypes(),
+                    renderState.getCableBusAdjacent(),
+                    renderState.getChannelsOnSide(),
+                    renderState.getAttachmentConnections(),
+                    attachmentsRequireCable);
+        }
+    }
+
+    /**
+     * The rotated quads of a simple part model.
+     */
+    private record PartQuadsKey(BakedModel model, Direction facing, int spin) {
+    }
 }
@@ -28,6 +28,12 @@
 import java.util.Set;
 import java.util.function.Supplier;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.LoadingCache;
+import com.google.common.cache.Weigher;
+
 import org.jetbrains.annotations.Nullable;
 
 import net.minecraft.client.Minecraft;
@@ -37,6 +43,7 @@
 import net.minecraft.client.resources.model.BakedModel;
 import net.minecraft.client.resources.model.BlockModelRotation;
 import net.minecraft.client.resources.model.ModelBaker;
+import net.minecraft.client.resources.model.SimpleBakedModel;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.Direction.Axis;
@@ -89,8 +96,28 @@ public class FacadeBuilder {
 
     private final Map<Direction, Mesh> cableAnchorStilts;
 
+    // The number of facade quads overall that will be cached
+    private static final int FACADE_CACHE_QUAD_COUNT = 20000;
+
+    /**
+     * Clipped facade geometry of simple block models, without tints applied.
+     */
+    private final LoadingCache<FacadeGeometryKey, FacadeGeometry> facadeGeometryCache;
+
     public FacadeBuilder(ModelBaker modelLoader, @Nullable BakedModel transparentFacadeModel) {
         cableAnchorStilts = buildCableAnchorStems(modelLoader);
+        facadeGeometryCache = CacheBuilder.newBuilder()//
+                .maximumWeight(FACADE_CACHE_QUAD_COUNT)//
+                .weigher((Weigher<FacadeGeometryKey, FacadeGeometry>) (key, value) -> value.quadCount)//
+                .recordStats()//
+                .build(new CacheLoader<FacadeGeometryKey, FacadeGeometry>() {
+                    @Override
+                    public FacadeGeometry load(FacadeGeometryKey key) {
+                        var blockState = key.blockState();
+                        var model = Minecraft.getInstance().getBlockRenderer().getBlockModel(blockState);
+                        return buildFacadeGeometry(model, key, 0, RandomSource::create, ModelData.EMPTY, null);
+                    }
+                });
 
         // Pre-rotate the transparent facade model to all possible sides so that we can
         // add it quicker later.
@@ -262,83 +289,141 @@ public Mesh getFacadeMesh(CableBusRenderState renderState, Supplier<RandomSource
             }
 
             AEAxisAlignedBB cutOutBox = getCutOutBox(facadeBox, partBoxes);
-            List<AABB> holeStrips = getBoxes(facadeBox, cutOutBox, side.getAxis());
-            var facadeAccess = new FacadeBlockAccess(level, pos, side, blockState);
-
-            QuadFaceStripper faceStripper = new QuadFaceStripper(fullBounds, facadeMask);
-            // Setup the kicker.
-            QuadCornerKicker kicker = new QuadCornerKicker();
-            kicker.setSide(sideIndex);
-            kicker.setFacadeMask(facadeMask);
-            kicker.setBox(fullBounds);
-            kicker.setThickness(THIN_THICKNESS);
+            var geometryKey = new FacadeGeometryKey(blockState, side, facadeMask, facadeBox,
+                    cutOutBox != null ? cutOutBox.getBoundingBox() : null);
+
+            // Ignore quads that are not supposed to connect to the adjacent block.
+            int culledFaces = 0;
+            for (Direction cullFace : Direction.values()) {
+                BlockPos adjPos = pos.relative(cullFace);
+                BlockState adjState = level.getBlockState(adjPos).getAppearance(level, adjPos,
+                        cullFace.getOpposite(), blockState, pos);
+
+                if (blockState.skipRendering(adjState, cullFace)) {
+                    culledFaces |= 1 << cullFace.ordinal();
+                }
+            }
 
-            QuadReInterpolator interpolator = new QuadReInterpolator();
+            FacadeGeometry geometry;
+            if (isCacheable(model)) {
+                // The quads of simple models only depend on the block state, so the clipped geometry can be shared
+                // between all facades with the same shape, regardless of their position or neighbors.
+                geometry = facadeGeometryCache.getUnchecked(geometryKey);
+            } else {
+                geometry = buildFacadeGeometry(model, geometryKey, culledFaces, rand, modelData, renderType);
+            }
 
+            var facadeAccess = new FacadeBlockAccess(level, pos, side, blockState);
             for (int cullFaceIdx = 0; cullFaceIdx <= ModelHelper.NULL_FACE_ID; cullFaceIdx++) {
-                Direction cullFace = ModelHelper.faceFromIndex(cullFaceIdx);
-                List<BakedQuad> quads = model.getQuads(blockState, cullFace, rand.get(), modelData, renderType);
-
-                // Ignore quad if it's not supposed to connect to the adjacent block.
-                if (cullFace != null) {
-                    BlockPos adjPos = pos.relative(cullFace);
-                    BlockState adjState = level.getBlockState(adjPos).getAppearance(level, adjPos,
-                            cullFace.getOpposite(), blockState, pos);
-
-                    if (blockState.skipRendering(adjState, cullFace)) {
-                        continue;
-                    }
+                if (cullFaceIdx < ModelHelper.NULL_FACE_ID && (culledFaces & 1 << cullFaceIdx) != 0) {
+                    continue;
                 }
 
-                for (BakedQuad quad : quads) {
-                    QuadTinter quadTinter = null;
+                geometry.meshes[cullFaceIdx].forEach(quad -> {
+                    quad.copyTo(emitter);
 
                     // Prebake the color tint into the quad
-                    if (quad.getTintIndex() != -1) {
-                        quadTinter = new QuadTinter(
-                                blockColors.getColor(blockState, facadeAccess, pos, quad.getTintIndex()));
+                    if (emitter.colorIndex() != -1) {
+                        new QuadTinter(blockColors.getColor(blockState, facadeAccess, pos, emitter.colorIndex()))
+                                .transform(emitter);
                     }
 
-                    for (AABB box : holeStrips) {
-                        emitter.fromVanilla(quad.getVertices(), 0);
-                        // Keep the cull-face for faces that are flush with the outer block-face on the
-                        // side the facade is attached to, but clear it for anything that faces inwards
-                        emitter.cullFace(cullFace == side ? side : null);
-                        emitter.nominalFace(quad.getDirection());
-                        emitter.shade(quad.isShade());
-                        emitter.ambientOcclusion(quad.hasAmbientOcclusion());
-                        interpolator.setInputQuad(emitter);
+                    emitter.emit();
+                });
+            }
+        }
 
-                        QuadClamper clamper = new QuadClamper(box);
-                        if (!clamper.transform(emitter)) {
-                            continue;
-                        }
+        return meshBuilder.build();
 
-                        // Strips faces if they match a mask.
-                        if (!faceStripper.transform(emitter)) {
-                            continue;
-                        }
+    }
 
-                        // Kicks the edge inner corners in, solves Z fighting
-                        if (!kicker.transform(emitter)) {
-                            continue;
-                        }
+    /**
+     * @return Hit-rate statistics of the facade geometry cache.
+     */
+    public CacheStats getCacheStats() {
+        return facadeGeometryCache.stats();
+    }
+
+    /**
+     * The quads of simple models do not depend on the position, random source, model data or render type, which is
+     * what makes their facade geometry cacheable.
+     */
+    private static boolean isCacheable(BakedModel model) {
+        return model.getClass() == SimpleBakedModel.class;
+    }
 
-                        interpolator.transform(emitter);
+    /**
+     * Clips the quads of the facade's block model to the facade's shape, leaving out the hole for parts. Tints are not
+     * applied yet, but the tint index is kept on the quads.
+     *
+     * @param skippedCullFaces Bitmask of the cull faces that do not need to be built.
+     */
+    private FacadeGeometry buildFacadeGeometry(BakedModel model, FacadeGeometryKey key, int skippedCullFaces,
+            Supplier<RandomSource> rand, ModelData modelData, @Nullable RenderType renderType) {
+        var blockState = key.blockState();
+        var side = key.side();
+        var facadeMask = key.facadeMask();
+        AABB fullBounds = THIN_FACADE_BOXES[side.ordinal()];
+        List<AABB> holeStrips = getBoxes(key.facadeBox(), key.cutOutBox(), side.getAxis());
+
+        QuadFaceStripper faceStripper = new QuadFaceStripper(fullBounds, facadeMask);
+        // Setup the kicker.
+        QuadCornerKicker kicker = new QuadCornerKicker();
+        kicker.setSide(side.ordinal());
+        kicker.setFacadeMask(facadeMask);
+        kicker.setBox(fullBounds);
+        kicker.setThickness(THIN_THICKNESS);
 
-                        // Tints the quad if we need it to. Disabled by default.
-                        if (quadTinter != null) {
-                            quadTinter.transform(emitter);
-                        }
+        QuadReInterpolator interpolator = new QuadReInterpolator();
 
-                        emitter.emit();
+        var meshes = new Mesh[ModelHelper.NULL_FACE_ID + 1];
+        int quadCount = 0;
+        for (int cullFaceIdx = 0; cullFaceIdx <= ModelHelper.NULL_FACE_ID; cullFaceIdx++) {
+            MeshBuilder meshBuilder = renderer.meshBuilder();
+            QuadEmitter emitter = meshBuilder.getEmitter();
+            Direction cullFace = ModelHelper.faceFromIndex(cullFaceIdx);
+            List<BakedQuad> quads = (skippedCullFaces & 1 << cullFaceIdx) == 0
+                    ? model.getQuads(blockState, cullFace, rand.get(), modelData, renderType)
+                    : List.of();
+
+            for (BakedQuad quad : quads) {
+                for (AABB box : holeStrips) {
+                    emitter.fromVanilla(quad.getVertices(), 0);
+                    // Keep the cull-face for faces that are flush with the outer block-face on the
+                    // side the facade is attached to, but clear it for anything that faces inwards
+                    emitter.cullFace(cullFace == side ? side : null);
+                    emitter.nominalFace(quad.getDirection());
+                    emitter.colorIndex(quad.getTintIndex());
+                    emitter.shade(quad.isShade());
+                    emitter.ambientOcclusion(quad.hasAmbientOcclusion());
+                    interpolator.setInputQuad(emitter);
+
+                    QuadClamper clamper = new QuadClamper(box);
+                    if (!clamper.transform(emitter)) {
+                        continue;
                     }
+
+                    // Strips faces if they match a mask.
+                    if (!faceStripper.transform(emitter)) {
+                        continue;
+                    }
+
+                    // Kicks the edge inner corners in, solves Z fighting
+                    if (!kicker.transform(emitter)) {
+                        continue;
+                    }
+
+                    interpolator.transform(emitter);
+
+                    emitter.emit();
+                    quadCount++;
                 }
             }
-        }
 
-        return meshBuilder.build();
+            meshes[cullFaceIdx] = meshBuilder.build();
+        }
 
+        return new FacadeGeometry(meshes, quadCount);
     }
 
     /**
@@ -429,7 +514,7 @@ private static AEAxisAlignedBB getCutOutBox(AABB facadeBox, List<AABB> partBoxes
      * @param axis The axis the facade is on.
      * @return The box segments.
      */
-    private static List<AABB> getBoxes(AABB fb, AEAxisAlignedBB hole, Axis axis) {
+    private static List<AABB> getBoxes(AABB fb, @Nullable AABB hole, Axis axis) {
         if (hole == null) {
             return Collections.singletonList(fb);
         }
@@ -465,4 +550,17 @@ private static List<AABB> getBoxes(AABB fb, AEAxisAlignedBB hole, Axis axis) {
 
         return boxes;
     }
+
+    /**
+     * Everything that determines the shape of a facade, apart from its neighbors.
+     */
+    private record FacadeGeometryKey(BlockState blockState, Direction side, int facadeMask, AABB facadeBox,
+            @Nullable AABB cutOutBox) {
+    }
+
+    /**
+     * @param meshes The clipped quads for each cull face, indexed by {@link ModelHelper#faceFromIndex}.
+     */
+    private record FacadeGeometry(Mesh[] meshes, int quadCount) {
+    }
 }
@@ -25,6 +25,8 @@
 import com.mojang.blaze3d.vertex.VertexConsumer;
 import com.mojang.blaze3d.vertex.VertexFormat;
 
+import org.jetbrains.annotations.Nullable;
+import org.joml.Matrix4f;
 import org.joml.Vector3f;
 
 import net.minecraft.client.renderer.GameRenderer;
@@ -81,6 +83,11 @@ public class CellLedRenderer {
             // Bottom Face
             R, B, FR, L, B, FR, L, B, BA, R, B, BA, };
 
+    /**
+     * The number of vertices of a single LED.
+     */
+    public static final int LED_VERTEX_COUNT = LED_QUADS.length / 3;
+
     public static final RenderType RENDER_LAYER = RenderType.create("ae_drive_leds",
             DefaultVertexFormat.POSITION_COLOR, VertexFormat.Mode.QUADS, 32565, false, true,
             RenderType.CompositeState.builder()
@@ -103,7 +110,35 @@ public static void renderLed(IChestOrDrive drive, int slot, VertexConsumer buffe
         }
     }
 
-    private static Vector3f getColorForSlot(IChestOrDrive drive, int slot, float partialTicks) {
+    /**
+     * Writes the positions of the LED vertices, transformed by the given pose, to the given array. Together with
+     * {@link #getStaticColorForSlot}, this allows LEDs that do not blink to be transformed once and then rendered with
+     * {@link #renderTransformedLed} until their state changes.
+     */
+    public static void transformLed(Matrix4f pose, float[] positionsOut, int offset) {
+        var pos = new Vector3f();
+        for (int i = 0; i < LED_QUADS.length; i += 3) {
+            pose.transformPosition(LED_QUADS[i], LED_QUADS[i + 1], LED_QUADS[i + 2], pos);
+            positionsOut[offset + i] = pos.x();
+            positionsOut[offset + i + 1] = pos.y();
+            positionsOut[offset + i + 2] = pos.z();
+        }
+    }
+
+    public static void renderTransformedLed(float[] positions, int offset, Vector3f color, VertexConsumer buffer,
+            PoseStack ms) {
+        var pose = ms.last().pose();
+        for (int i = 0; i < LED_QUADS.length; i += 3) {
+            buffer.addVertex(pose, positions[offset + i], positions[offset + i + 1], positions[offset + i + 2])
+                    .setColor(color.x(), color.y(), color.z(), 1.f);
+        }
+    }
+
+    /**
+     * @return The color of the LED for the given slot, ignoring any blinking. Null if no LED should be shown.
+     */
+    @Nullable
+    public static Vector3f getStaticColorForSlot(IChestOrDrive drive, int slot) {
         var state = drive.getCellStatus(slot);
         if (state == CellState.ABSENT) {
             return null;
@@ -113,7 +148,15 @@ private static Vector3f getColorForSlot(IChestOrDrive drive, int slot, float par
             return UNPOWERED_COLOR;
         }
 
-        Vector3f col = STATE_COLORS.get(state);
+        return STATE_COLORS.get(state);
+    }
+
+    private static Vector3f getColorForSlot(IChestOrDrive drive, int slot, float partialTicks) {
+        Vector3f col = getStaticColorForSlot(drive, slot);
+        if (col == null || !drive.isPowered()) {
+            return col;
+        }
+
         if (drive.isCellBlinking(slot)) {
             // 200 ms interval (100ms to get to red, then 100ms back)
             long t = System.currentTimeMillis() % 200;
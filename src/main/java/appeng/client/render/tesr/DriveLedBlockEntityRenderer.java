@@ -18,6 +18,9 @@
 
 package appeng.client.render.tesr;
 
+import java.util.Map;
+import java.util.WeakHashMap;
+
 import com.mojang.blaze3d.vertex.PoseStack;
 
 import org.joml.Vector3f;
@@ -34,10 +37,17 @@
 
 /**
  * Renders the drive cell status indicators.
+ * <p/>
+ * The LED vertices of each drive are transformed once and then reused until the state of a cell, the power state or
+ * the orientation of the drive changes. Only LEDs that are currently blinking are computed every frame.
  */
 @OnlyIn(Dist.CLIENT)
 public class DriveLedBlockEntityRenderer implements BlockEntityRenderer<DriveBlockEntity> {
 
+    private static final int SLOTS = 10;
+
+    private final Map<DriveBlockEntity, TransformedLeds> transformedLeds = new WeakHashMap<>();
+
     public DriveLedBlockEntityRenderer(BlockEntityRendererProvider.Context context) {
     }
 
@@ -45,34 +55,135 @@ public DriveLedBlockEntityRenderer(BlockEntityRendererProvider.Context context)
     public void render(DriveBlockEntity drive, float partialTicks, PoseStack ms, MultiBufferSource buffers,
             int combinedLightIn, int combinedOverlayIn) {
 
-        if (drive.getCellCount() != 10) {
+        if (drive.getCellCount() != SLOTS) {
             throw new IllegalStateException("Expected drive to have 10 slots");
         }
 
-        ms.pushPose();
-        ms.translate(0.5, 0.5, 0.5);
         var blockOrientation = BlockOrientation.get(drive);
-        ms.mulPose(blockOrientation.getQuaternion());
-        ms.translate(-0.5, -0.5, -0.5);
+        var ledState = getLedState(drive);
+        var leds = transformedLeds.get(drive);
+        if (leds == null || leds.ledState != ledState || leds.orientation != blockOrientation) {
+            leds = transformLeds(drive, blockOrientation, ledState);
+            transformedLeds.put(drive, leds);
+        }
+
+        if (leds.isEmpty()) {
+            return;
+        }
 
         var buffer = buffers.getBuffer(CellLedRenderer.RENDER_LAYER);
 
+        for (int slot = 0; slot < SLOTS; slot++) {
+            var color = leds.colors[slot];
+            if (color != null) {
+                CellLedRenderer.renderTransformedLed(leds.positions, slot * CellLedRenderer.LED_VERTEX_COUNT * 3,
+                        color, buffer, ms);
+            }
+        }
+
+        if (leds.blinkingSlots != 0) {
+            ms.pushPose();
+            applyBlockOrientation(ms, blockOrientation);
+
+            Vector3f slotTranslation = new Vector3f();
+            for (int slot = 0; slot < SLOTS; slot++) {
+                if ((leds.blinkingSlots & 1 << slot) != 0) {
+                    ms.pushPose();
+
+                    DriveBakedModel.getSlotOrigin(slot / 2, slot % 2, slotTranslation);
+                    ms.translate(slotTranslation.x(), slotTranslation.y(), slotTranslation.z());
+
+                    CellLedRenderer.renderLed(drive, slot, buffer, ms, partialTicks);
+
+                    ms.popPose();
+                }
+            }
+
+            ms.popPose();
+        }
+    }
+
+    /**
+     * Packs everything that determines the LEDs of a drive into a long: 3 bits per cell state, the power state and a
+     * bit per blinking slot.
+     */
+    private static long getLedState(DriveBlockEntity drive) {
+        long ledState = 0;
+        for (int slot = 0; slot < SLOTS; slot++) {
+            ledState |= (long) drive.getCellStatus(slot).ordinal() << (slot * 3);
+            if (drive.isCellBlinking(slot)) {
+                ledState |= 1L << (32 + slot);
+            }
+        }
+        if (drive.isPowered()) {
+            ledState |= 1L << 31;
+        }
+        return ledState;
+    }
+
+    private static TransformedLeds transformLeds(DriveBlockEntity drive, BlockOrientation blockOrientation,
+            long ledState) {
+        var positions = new float[SLOTS * CellLedRenderer.LED_VERTEX_COUNT * 3];
+        var colors = new Vector3f[SLOTS];
+        int blinkingSlots = 0;
+
+        var ms = new PoseStack();
+        applyBlockOrientation(ms, blockOrientation);
+
         Vector3f slotTranslation = new Vector3f();
         for (int row = 0; row < 5; row++) {
             for (int col = 0; col < 2; col++) {
+                int slot = row * 2 + col;
+                if (drive.isCellBlinking(slot)) {
+                    blinkingSlots |= 1 << slot;
+                    continue;
+                }
+
+                colors[slot] = CellLedRenderer.getStaticColorForSlot(drive, slot);
+                if (colors[slot] == null) {
+                    continue;
+                }
+
                 ms.pushPose();
 
                 DriveBakedModel.getSlotOrigin(row, col, slotTranslation);
                 ms.translate(slotTranslation.x(), slotTranslation.y(), slotTranslation.z());
 
-                int slot = row * 2 + col;
-                CellLedRenderer.renderLed(drive, slot, buffer, ms, partialTicks);
+                CellLedRenderer.transformLed(ms.last().pose(), positions, slot * CellLedRenderer.LED_VERTEX_COUNT * 3);
 
                 ms.popPose();
             }
         }
 
-        ms.popPose();
+        return new TransformedLeds(ledState, blockOrientation, positions, colors, blinkingSlots);
+    }
+
+    private static void applyBlockOrientation(PoseStack ms, BlockOrientation blockOrientation) {
+        ms.translate(0.5, 0.5, 0.5);
+        ms.mulPose(blockOrientation.getQuaternion());
+        ms.translate(-0.5, -0.5, -0.5);
     }
 
+    /**
+     * @param positions     The transformed LED vertices of all slots, relative to the drive.
+     * @param colors        The color of each slot's LED, or null if the slot has no LED or is blinking.
+     * @param blinkingSlots Bitmask of the slots whose LEDs are blinking and need to be computed every frame.
+     */
+    private record TransformedLeds(long ledState,
+            BlockOrientation orientation,
+            float[] positions,
+            Vector3f[] colors,
+            int blinkingSlots) {
+        boolean isEmpty() {
+            if (blinkingSlots != 0) {
+                return false;
+            }
+            for (var color : colors) {
+                if (color != null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
 }
@@ -82,6 +82,7 @@
 import appeng.init.internal.InitUpgrades;
 import appeng.init.worldgen.InitStructures;
 import appeng.integration.Integrations;
+import appeng.parts.automation.PlaneEntityCounter;
 import appeng.recipes.AERecipeSerializers;
 import appeng.recipes.AERecipeTypes;
 import appeng.server.AECommand;
@@ -179,6 +180,7 @@ public AppEngBase(IEventBus modEventBus, ModContainer container) {
 
         NeoForge.EVENT_BUS.addListener(WrenchHook::onPlayerUseBlockEvent);
         NeoForge.EVENT_BUS.addListener(SkyStoneBreakSpeed::handleBreakFaster);
+        NeoForge.EVENT_BUS.addListener(PlaneEntityCounter::onLevelUnload);
 
         HotkeyActions.init();
     }
@@ -47,7 +47,7 @@ public void handleOnClient(Player player) {
         Screen screen = Minecraft.getInstance().screen;
 
         if (screen instanceof CraftingCPUScreen<?> cpuScreen) {
-            cpuScreen.postUpdate(this.status);
+            cpuScreen.postUpdate(this.status.decodeEntries(player.registryAccess()));
         }
     }
 
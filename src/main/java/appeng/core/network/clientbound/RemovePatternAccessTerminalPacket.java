@@ -0,0 +1,64 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2021, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.core.network.clientbound;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.world.entity.player.Player;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.api.distmarker.OnlyIn;
+
+import appeng.client.gui.me.patternaccess.PatternAccessTermScreen;
+import appeng.core.network.ClientboundPacket;
+import appeng.core.network.CustomAppEngPayload;
+
+/**
+ * Removes a single {@link appeng.helpers.patternprovider.PatternContainer} from the pattern access terminal.
+ */
+public record RemovePatternAccessTerminalPacket(long inventoryId) implements ClientboundPacket {
+    public static final StreamCodec<RegistryFriendlyByteBuf, RemovePatternAccessTerminalPacket> STREAM_CODEC = StreamCodec
+            .ofMember(
+                    RemovePatternAccessTerminalPacket::write,
+                    RemovePatternAccessTerminalPacket::decode);
+
+    public static final Type<RemovePatternAccessTerminalPacket> TYPE = CustomAppEngPayload
+            .createType("remove_pattern_access_terminal");
+
+    @Override
+    public Type<RemovePatternAccessTerminalPacket> type() {
+        return TYPE;
+    }
+
+    public static RemovePatternAccessTerminalPacket decode(RegistryFriendlyByteBuf data) {
+        return new RemovePatternAccessTerminalPacket(data.readVarLong());
+    }
+
+    public void write(RegistryFriendlyByteBuf data) {
+        data.writeVarLong(inventoryId);
+    }
+
+    @Override
+    @OnlyIn(Dist.CLIENT)
+    public void handleOnClient(Player player) {
+        if (Minecraft.getInstance().screen instanceof PatternAccessTermScreen<?> patternAccessTerminal) {
+            patternAccessTerminal.postRemoval(inventoryId);
+        }
+    }
+}
@@ -52,6 +52,7 @@
 import appeng.hooks.ticking.TickHandler;
 import appeng.me.cluster.implementations.CraftingCPUCluster;
 import appeng.me.service.CraftingService;
+import appeng.menu.me.crafting.CraftingStatusJournal;
 
 /**
  * Stores the crafting logic of a crafting CPU.
@@ -71,6 +72,10 @@ public class CraftingCpuLogic {
      */
     private final int[] usedOps = new int[3];
     private final Set<Consumer<AEKey>> listeners = new HashSet<>();
+    /**
+     * Shared by all menus showing the status of this CPU.
+     */
+    private final CraftingStatusJournal statusJournal = new CraftingStatusJournal(this);
     /**
      * True if the CPU is currently trying to clear its inventory but is not able to.
      */
@@ -465,6 +470,10 @@ public void removeListener(Consumer<AEKey> listener) {
         listeners.remove(listener);
     }
 
+    public CraftingStatusJournal getStatusJournal() {
+        return statusJournal;
+    }
+
     public long getStored(AEKey template) {
         return this.inventory.extract(template, Long.MAX_VALUE, Actionable.SIMULATE);
     }
@@ -53,6 +53,7 @@
 import appeng.me.helpers.IGridConnectedBlockEntity;
 import appeng.me.service.TickManagerService;
 import appeng.parts.networking.CablePart;
+import appeng.parts.p2p.CapabilityP2PTunnelPart;
 import appeng.parts.p2p.P2PTunnelPart;
 import appeng.util.InteractionUtil;
 import appeng.util.Platform;
@@ -230,6 +231,17 @@ public InteractionResult onItemUseFirst(ItemStack stack, UseOnContext context) {
                         .withStyle(ChatFormatting.GRAY)
                         .append(msg));
             }
+            // Print how much an input tunnel has transferred to each of its outputs
+            if (partHost.getPart(side) instanceof CapabilityP2PTunnelPart<?, ?> tunnel && !tunnel.isOutput()) {
+                this.outputMessage(player, "-- P2P Fan-Out");
+                for (var stats : tunnel.getFanOutStats()) {
+                    var output = stats.output();
+                    this.outputSecondaryMessage(player, output.getBlockEntity().getBlockPos().toShortString() + " "
+                            + output.getSide().getName(),
+                            stats.transferred() + " transferred; " + stats.refusals() + " refusals"
+                                    + (stats.backedOff() ? "; backed off" : ""));
+                }
+            }
         }
 
         if (te instanceof IAEPowerStorage ps) {
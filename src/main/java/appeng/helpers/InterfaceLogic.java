@@ -37,13 +37,16 @@
 import appeng.api.config.FuzzyMode;
 import appeng.api.config.Settings;
 import appeng.api.networking.GridFlags;
+import appeng.api.networking.IGrid;
 import appeng.api.networking.IGridNode;
 import appeng.api.networking.IManagedGridNode;
+import appeng.api.networking.IStackWatcher;
 import appeng.api.networking.crafting.ICraftingLink;
 import appeng.api.networking.crafting.ICraftingRequester;
 import appeng.api.networking.energy.IEnergyService;
 import appeng.api.networking.security.IActionHost;
 import appeng.api.networking.security.IActionSource;
+import appeng.api.networking.storage.IStorageWatcherNode;
 import appeng.api.networking.ticking.IGridTickable;
 import appeng.api.networking.ticking.TickRateModulation;
 import appeng.api.networking.ticking.TickingRequest;
@@ -95,6 +98,13 @@ public class InterfaceLogic implements ICraftingRequester, IUpgradeableObject, I
      */
     private boolean hasConfig = false;
     private final ConfigInventory storage;
+    @Nullable
+    private IStackWatcher storageWatcher;
+    /**
+     * True while the interface sleeps until the network reports supply of a key it is missing, or a crafting job it is
+     * waiting for changes state. The missing keys are registered with {@link #storageWatcher}.
+     */
+    private boolean waitingForSupply;
 
     public InterfaceLogic(IManagedGridNode gridNode, InterfaceLogicHost host, Item is) {
         this(gridNode, host, is, 9);
@@ -107,7 +117,8 @@ public InterfaceLogic(IManagedGridNode gridNode, InterfaceLogicHost host, Item i
                 .changeListener(this::onStorageChanged).build();
         this.mainNode = gridNode
                 .setFlags(GridFlags.REQUIRE_CHANNEL)
-                .addService(IGridTickable.class, new Ticker());
+                .addService(IGridTickable.class, new Ticker())
+                .addService(IStorageWatcherNode.class, new SupplyWatcher());
         this.actionSource = new MachineSource(mainNode::getNode);
 
         this.interfaceRequestSource = new InterfaceRequestSource(mainNode::getNode);
@@ -174,13 +185,89 @@ public TickingRequest getTickingRequest(IGridNode node) {
 
         @Override
         public TickRateModulation tickingRequest(IGridNode node, int ticksSinceLastCall) {
+            clearSupplyWatch();
+
             if (!mainNode.isActive()) {
                 return TickRateModulation.SLEEP;
             }
 
             boolean couldDoWork = updateStorage();
-            return hasWorkToDo() ? couldDoWork ? TickRateModulation.URGENT : TickRateModulation.SLOWER
-                    : TickRateModulation.SLEEP;
+            if (!hasWorkToDo()) {
+                return TickRateModulation.SLEEP;
+            } else if (couldDoWork) {
+                return TickRateModulation.URGENT;
+            } else if (waitForSupply(node.getGrid())) {
+                return TickRateModulation.SLEEP;
+            } else {
+                return TickRateModulation.SLOWER;
+            }
+        }
+    }
+
+    private class SupplyWatcher implements IStorageWatcherNode {
+        @Override
+        public void updateWatcher(IStackWatcher newWatcher) {
+            storageWatcher = newWatcher;
+            // The keys we were waiting for are not watched by the new watcher
+            stopWaitingForSupply();
+        }
+
+        @Override
+        public void onStackChange(AEKey what, long amount) {
+            if (amount > 0) {
+                stopWaitingForSupply();
+            }
+        }
+    }
+
+    /**
+     * Checks if all remaining work is blocked on keys that the network does not have at all, or on crafting jobs that
+     * were already submitted. If so, the missing keys are watched and the interface can sleep until they show up or
+     * the crafting job reports back, instead of polling the network for them.
+     */
+    private boolean waitForSupply(IGrid grid) {
+        if (storageWatcher == null || upgrades.isInstalled(AEItems.FUZZY_CARD)) {
+            // Fuzzy imports can be satisfied by any number of keys, keep polling for them
+            return false;
+        }
+
+        var cachedInventory = grid.getStorageService().getCachedInventory();
+        for (int x = 0; x < plannedWork.length; x++) {
+            var work = plannedWork[x];
+            if (work == null || this.craftingTracker.hasLink(x)) {
+                continue;
+            }
+
+            // Moving stacks into the network, retrying a crafting request or extracting stacks that are stored but
+            // could not be extracted (i.e. due to missing power) still requires polling.
+            if (work.amount() < 0 || this.craftingTracker.isBusy(x) || upgrades.isInstalled(AEItems.CRAFTING_CARD)
+                    || cachedInventory.get(work.what()) > 0) {
+                return false;
+            }
+        }
+
+        for (var work : plannedWork) {
+            if (work != null && work.amount() > 0) {
+                storageWatcher.add(work.what());
+            }
+        }
+        waitingForSupply = true;
+        return true;
+    }
+
+    private void clearSupplyWatch() {
+        if (waitingForSupply) {
+            waitingForSupply = false;
+            if (storageWatcher != null) {
+                storageWatcher.reset();
+            }
+        }
+    }
+
+    private void stopWaitingForSupply() {
+        if (waitingForSupply) {
+            clearSupplyWatch();
+            mainNode.ifPresent((grid, node) -> grid.getTickManager().alertDevice(node));
         }
     }
 
@@ -324,6 +411,7 @@ public long insertCraftedItems(ICraftingLink link, AEKey what, long amount, Acti
     @Override
     public void jobStateChange(ICraftingLink link) {
         this.craftingTracker.jobStateChange(link);
+        stopWaitingForSupply();
     }
 
     @Override
@@ -342,6 +430,9 @@ public IGridNode getActionableNode() {
      * necessary.
      */
     private void updatePlan() {
+        // Any change to the configuration or the local storage can change what the interface is waiting for
+        stopWaitingForSupply();
+
         var hadWork = this.hasWorkToDo();
         for (int x = 0; x < this.config.size(); x++) {
             this.updatePlan(x);
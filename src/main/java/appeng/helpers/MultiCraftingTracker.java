@@ -166,6 +166,13 @@ boolean isBusy(int slot) {
         return this.getLink(slot) != null || this.getJob(slot) != null;
     }
 
+    /**
+     * @return True if a crafting job for the slot was submitted and its result has not been received yet.
+     */
+    boolean hasLink(int slot) {
+        return this.getLink(slot) != null;
+    }
+
     private ICraftingLink getLink(int slot) {
         if (this.links == null) {
             return null;
@@ -44,13 +44,13 @@
 import appeng.api.util.IConfigManager;
 import appeng.api.util.KeyTypeSelection;
 import appeng.api.util.KeyTypeSelectionHost;
-import appeng.blockentity.networking.WirelessAccessPointBlockEntity;
 import appeng.core.AEConfig;
 import appeng.core.localization.GuiText;
 import appeng.core.localization.PlayerMessages;
 import appeng.items.contents.StackDependentSupplier;
 import appeng.items.tools.powered.WirelessTerminalItem;
 import appeng.me.helpers.PlayerSource;
+import appeng.me.service.WirelessAccessPointService;
 import appeng.me.storage.NullInventory;
 import appeng.menu.ISubMenu;
 import appeng.menu.locator.ItemMenuHostLocator;
@@ -150,7 +150,9 @@ protected void updateConnectedAccessPoint() {
             double bestSqRemainingRange = Double.MIN_VALUE;
 
             // Find closest WAP
-            for (var wap : targetGrid.getMachines(WirelessAccessPointBlockEntity.class)) {
+            var player = getPlayer();
+            for (var wap : WirelessAccessPointService.get(targetGrid).getAccessPointsNear(player.level(),
+                    player.getX(), player.getY(), player.getZ())) {
                 var signal = getAccessPointSignal(wap);
 
                 // If the WAP is not suitable then MAX_VALUE will be returned and the check will fail
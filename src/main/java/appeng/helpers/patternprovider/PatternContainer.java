@@ -41,4 +41,13 @@ default long getTerminalSortOrder() {
      * @return The group in which this pattern container should be grouped visually in the pattern access terminal.
      */
     PatternContainerGroup getTerminalGroup();
+
+    /**
+     * @return True if this container notifies the {@link appeng.me.service.PatternContainerService} of its grid about
+     *         changes to its pattern inventory, visibility and group. Containers that don't are polled for changes by
+     *         open terminals.
+     */
+    default boolean notifiesPatternChanges() {
+        return false;
+    }
 }
@@ -75,6 +75,7 @@
 import appeng.core.settings.TickRates;
 import appeng.helpers.InterfaceLogicHost;
 import appeng.me.helpers.MachineSource;
+import appeng.me.service.PatternContainerService;
 import appeng.util.inv.AppEngInternalInventory;
 import appeng.util.inv.InternalInventoryHost;
 import appeng.util.inv.PlayerInternalInventory;
@@ -246,6 +247,7 @@ public void saveChangedInventory(AppEngInternalInventory inv) {
     public void onChangeInventory(AppEngInternalInventory inv, int slot) {
         this.saveChanges();
         this.updatePatterns();
+        this.mainNode.ifPresent(grid -> PatternContainerService.get(grid).notifyPatternsChanged(host));
     }
 
     @Override
@@ -766,6 +768,13 @@ public PatternContainerGroup getTerminalGroup() {
                 tooltip);
     }
 
+    /**
+     * Called when blocks adjacent to this pattern provider have changed, which might change the group it's shown in.
+     */
+    public void onAdjacentBlocksChanged() {
+        this.mainNode.ifPresent(grid -> PatternContainerService.get(grid).notifyGroupChanged(host));
+    }
+
     public long getSortValue() {
         final BlockEntity te = this.host.getBlockEntity();
         return te.getBlockPos().getZ() << 24 ^ te.getBlockPos().getX() << 8 ^ te.getBlockPos().getY();
@@ -794,6 +803,9 @@ public void updateRedstoneState() {
     private void configChanged(IConfigManager manager, Setting<?> setting) {
         if (setting == Settings.LOCK_CRAFTING_MODE) {
             resetCraftingLock();
+        } else if (setting == Settings.PATTERN_ACCESS_TERMINAL) {
+            this.mainNode.ifPresent(grid -> PatternContainerService.get(grid).notifyPatternsChanged(host));
+            saveChanges();
         } else {
             saveChanges();
         }
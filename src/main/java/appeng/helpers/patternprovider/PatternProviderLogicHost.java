@@ -104,4 +104,9 @@ default long getTerminalSortOrder() {
     default PatternContainerGroup getTerminalGroup() {
         return getLogic().getTerminalGroup();
     }
+
+    @Override
+    default boolean notifiesPatternChanges() {
+        return true;
+    }
 }
@@ -42,6 +42,7 @@
 
 import it.unimi.dsi.fastutil.objects.Reference2IntMap;
 import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 
 import appeng.api.networking.GridServicesInternal;
 import appeng.api.networking.IGrid;
@@ -50,7 +51,9 @@
 import appeng.api.networking.IGridService;
 import appeng.api.networking.crafting.ICraftingService;
 import appeng.api.networking.energy.IEnergyService;
+import appeng.api.networking.events.GridBootingStatusChange;
 import appeng.api.networking.events.GridEvent;
+import appeng.api.networking.events.GridPowerStatusChange;
 import appeng.api.networking.pathing.IPathingService;
 import appeng.api.networking.spatial.ISpatialService;
 import appeng.api.networking.storage.IStorageService;
@@ -71,12 +74,23 @@ public class Grid implements IGrid {
     private static int nextSerial = 0;
 
     private final SetMultimap<Class<?>, IGridNode> machines = MultimapBuilder.hashKeys().hashSetValues().build();
+    /**
+     * Results of {@link #getMachines} by machine class. Dropped when a node of that class joins or leaves the grid.
+     */
+    private final Map<Class<?>, Set<?>> machinesCache = new Reference2ObjectOpenHashMap<>();
+    /**
+     * Results of {@link #getActiveMachines} by machine class. In addition, dropped when a node of that class is
+     * notified about a status change, which happens whenever the grid's power, booting or channel state changes.
+     */
+    private final Map<Class<?>, Set<?>> activeMachinesCache = new Reference2ObjectOpenHashMap<>();
     private final GridServiceContainer services;
     // Becomes null after the last node has left the grid.
     @Nullable
     private GridNode pivot;
     private int priority; // how import is this network?
     private final int serialNumber = nextSerial++; // useful to keep track of grids in toString() for debugging purposes
+    @Nullable
+    private GridServiceTimings tickTimings;
 
     /**
      * Creates a new grid, sends the necessary events, and registers it to the tickhandler or other objects.
@@ -115,6 +129,8 @@ void remove(GridNode gridNode) {
 
         var machineClass = gridNode.getOwner().getClass();
         this.machines.remove(machineClass, gridNode);
+        this.machinesCache.remove(machineClass);
+        this.activeMachinesCache.remove(machineClass);
 
         if (this.pivot == gridNode) {
             var nodesIt = machines.values().iterator();
@@ -131,7 +147,10 @@ void remove(GridNode gridNode) {
 
     void add(GridNode gridNode, @Nullable CompoundTag savedData) {
         // track node.
-        this.machines.put(gridNode.getOwner().getClass(), gridNode);
+        var machineClass = gridNode.getOwner().getClass();
+        this.machines.put(machineClass, gridNode);
+        this.machinesCache.remove(machineClass);
+        this.activeMachinesCache.remove(machineClass);
 
         for (var service : services.services().values()) {
             service.addNode(gridNode, savedData);
@@ -156,6 +175,11 @@ public <C extends IGridService> C getService(Class<C> iface) {
 
     @Override
     public <T extends GridEvent> T postEvent(T ev) {
+        // These are posted after the state that determines whether nodes are active has changed, but before the nodes
+        // are notified, so handlers querying the active machines must not see the cached sets
+        if (ev instanceof GridPowerStatusChange || ev instanceof GridBootingStatusChange) {
+            this.activeMachinesCache.clear();
+        }
         GridEventBus.postEvent(this, ev);
         return ev;
     }
@@ -170,32 +194,47 @@ public Iterable<IGridNode> getMachineNodes(Class<?> machineClass) {
         return this.machines.get(machineClass);
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public <T> Set<T> getMachines(Class<T> machineClass) {
-        Set<IGridNode> nodes = this.machines.get(machineClass);
-        var resultBuilder = ImmutableSet.<T>builder();
-        for (IGridNode node : nodes) {
-            var logicalHost = node.getOwner();
-            if (machineClass.isInstance(logicalHost)) {
-                resultBuilder.add(machineClass.cast(logicalHost));
-            }
+        var result = (Set<T>) this.machinesCache.get(machineClass);
+        if (result == null) {
+            result = collectMachines(machineClass, false);
+            this.machinesCache.put(machineClass, result);
         }
-        return resultBuilder.build();
+        return result;
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public <T> Set<T> getActiveMachines(Class<T> machineClass) {
+        var result = (Set<T>) this.activeMachinesCache.get(machineClass);
+        if (result == null) {
+            result = collectMachines(machineClass, true);
+            this.activeMachinesCache.put(machineClass, result);
+        }
+        return result;
+    }
+
+    private <T> Set<T> collectMachines(Class<T> machineClass, boolean onlyActive) {
         Set<IGridNode> nodes = this.machines.get(machineClass);
         var resultBuilder = ImmutableSet.<T>builder();
         for (IGridNode node : nodes) {
             var logicalHost = node.getOwner();
-            if (machineClass.isInstance(logicalHost) && node.isActive()) {
+            if (machineClass.isInstance(logicalHost) && (!onlyActive || node.isActive())) {
                 resultBuilder.add(machineClass.cast(logicalHost));
             }
         }
         return resultBuilder.build();
     }
 
+    /**
+     * Called when a node of this grid is notified about a potential change of its active state.
+     */
+    void onNodeStatusChanged(GridNode gridNode) {
+        this.activeMachinesCache.remove(gridNode.getOwner().getClass());
+    }
+
     @Override
     public Collection<IGridNode> getNodes() {
         return this.machines.values();
@@ -220,8 +259,19 @@ public void onServerStartTick() {
             return;
         }
 
+        var timings = this.tickTimings;
+        if (timings != null) {
+            timings.startTick();
+        }
+
         for (var gc : this.services.serverStartTickServices()) {
-            gc.onServerStartTick();
+            if (timings != null) {
+                var start = System.nanoTime();
+                gc.onServerStartTick();
+                timings.add(gc, System.nanoTime() - start);
+            } else {
+                gc.onServerStartTick();
+            }
         }
     }
 
@@ -230,8 +280,15 @@ public void onLevelStartTick(Level level) {
             return;
         }
 
+        var timings = this.tickTimings;
         for (var gc : this.services.levelStartTickServices()) {
-            gc.onLevelStartTick(level);
+            if (timings != null) {
+                var start = System.nanoTime();
+                gc.onLevelStartTick(level);
+                timings.add(gc, System.nanoTime() - start);
+            } else {
+                gc.onLevelStartTick(level);
+            }
         }
     }
 
@@ -240,8 +297,15 @@ public void onLevelEndTick(Level level) {
             return;
         }
 
+        var timings = this.tickTimings;
         for (var gc : this.services.levelEndtickServices()) {
-            gc.onLevelEndTick(level);
+            if (timings != null) {
+                var start = System.nanoTime();
+                gc.onLevelEndTick(level);
+                timings.add(gc, System.nanoTime() - start);
+            } else {
+                gc.onLevelEndTick(level);
+            }
         }
     }
 
@@ -250,11 +314,29 @@ public void onServerEndTick() {
             return;
         }
 
+        var timings = this.tickTimings;
         for (var gc : this.services.serverEndTickServices()) {
-            gc.onServerEndTick();
+            if (timings != null) {
+                var start = System.nanoTime();
+                gc.onServerEndTick();
+                timings.add(gc, System.nanoTime() - start);
+            } else {
+                gc.onServerEndTick();
+            }
+        }
+
+        if (timings != null && timings.endTick()) {
+            this.tickTimings = null;
         }
     }
 
+    /**
+     * Measures how long the services of this grid spend ticking until the given timings have recorded enough ticks.
+     */
+    public void setTickTimings(@Nullable GridServiceTimings tickTimings) {
+        this.tickTimings = tickTimings;
+    }
+
     public void setImportantFlag(int i, boolean publicHasPower) {
         final int flag = 1 << i;
         this.priority = this.priority & ~flag | (publicHasPower ? flag : 0);
@@ -270,6 +352,7 @@ public void notifyAllNodes(IGridNodeListener.State state) {
             // may actually cause adjacent nodes to suddenly boot (i.e. QNBs) and modify the grid while
             // we're iterating over it.
             ITERATION_BUFFER.addAll(getNodes());
+            this.activeMachinesCache.clear();
 
             for (IGridNode node : ITERATION_BUFFER) {
                 ((GridNode) node).notifyStatusChange(state);
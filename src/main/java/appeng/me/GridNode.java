@@ -170,6 +170,9 @@ public <T> void callListener(ListenerCallback<T> callback) {
      * Notifies the grid node's listener about a potential change in the grid node's status.
      */
     public void notifyStatusChange(IGridNodeListener.State reason) {
+        if (this.myGrid != null) {
+            this.myGrid.onNodeStatusChanged(this);
+        }
         callListener((listener, owner, node) -> listener.onStateChanged(owner, node, reason));
     }
 
@@ -0,0 +1,109 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2021, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import com.google.common.math.StatsAccumulator;
+
+import it.unimi.dsi.fastutil.objects.Reference2LongOpenHashMap;
+
+import appeng.api.networking.IGridServiceProvider;
+
+/**
+ * Measures how long each service of a grid spends ticking, summed over all tick phases of a server tick, for a fixed
+ * number of server ticks. Attach it with {@link Grid#setTickTimings}. Times are recorded in microseconds per tick.
+ * <p/>
+ * Recording only starts with the next full server tick, so that a partial tick (i.e. when attached from a command) does
+ * not skew the results.
+ */
+public final class GridServiceTimings {
+
+    private final int ticks;
+    private final Consumer<GridServiceTimings> onComplete;
+
+    private final Reference2LongOpenHashMap<Class<?>> currentTick = new Reference2LongOpenHashMap<>();
+    private final Map<Class<?>, StatsAccumulator> services = new LinkedHashMap<>();
+    private final StatsAccumulator total = new StatsAccumulator();
+    private boolean started;
+    private int recordedTicks;
+
+    /**
+     * @param ticks      The number of server ticks to record.
+     * @param onComplete Called at the end of the last recorded tick.
+     */
+    public GridServiceTimings(int ticks, Consumer<GridServiceTimings> onComplete) {
+        this.ticks = ticks;
+        this.onComplete = onComplete;
+    }
+
+    void startTick() {
+        started = true;
+    }
+
+    void add(IGridServiceProvider service, long nanos) {
+        if (started) {
+            currentTick.addTo(service.getClass(), nanos);
+        }
+    }
+
+    /**
+     * @return True if the requested number of ticks has been recorded and these timings should be detached.
+     */
+    boolean endTick() {
+        if (!started) {
+            return false;
+        }
+
+        long tickTotal = 0;
+        for (var entry : currentTick.reference2LongEntrySet()) {
+            services.computeIfAbsent(entry.getKey(), c -> new StatsAccumulator()).add(entry.getLongValue() / 1000.0);
+            tickTotal += entry.getLongValue();
+        }
+        total.add(tickTotal / 1000.0);
+        currentTick.clear();
+
+        if (++recordedTicks >= ticks) {
+            onComplete.accept(this);
+            return true;
+        }
+        return false;
+    }
+
+    public int getRecordedTicks() {
+        return recordedTicks;
+    }
+
+    /**
+     * @return Microseconds spent per tick by each service that ticked at least once, in the order they first ticked.
+     */
+    public Map<Class<?>, StatsAccumulator> getServices() {
+        return Collections.unmodifiableMap(services);
+    }
+
+    /**
+     * @return Microseconds spent per tick by all services combined.
+     */
+    public StatsAccumulator getTotal() {
+        return total;
+    }
+}
@@ -32,16 +32,8 @@ public EnergyThreshold(double lim, IEnergyWatcher watcher) {
         this.watcherHash = watcher.hashCode();
     }
 
-    /**
-     * Special constructor to allow querying a for a subset of thresholds.
-     *
-     * @param lim
-     * @param bound
-     */
-    public EnergyThreshold(double lim, int bound) {
-        this.threshold = lim;
-        this.watcher = null;
-        this.watcherHash = bound;
+    public double getThreshold() {
+        return this.threshold;
     }
 
     public IEnergyWatcher getEnergyWatcher() {
@@ -0,0 +1,123 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2021, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.energy;
+
+import java.util.Arrays;
+
+import appeng.me.service.EnergyService;
+
+/**
+ * All energy thresholds registered with an energy service, sorted by their amount in a primitive array. Finding the
+ * thresholds crossed by a change in stored power is a binary search and does not allocate.
+ * <p/>
+ * Thresholds are only added or removed when watchers are reconfigured, so keeping the arrays sorted on modification is
+ * cheap compared to querying them every tick.
+ */
+public class EnergyThresholdIndex {
+
+    private double[] amounts = new double[0];
+    private EnergyThreshold[] thresholds = new EnergyThreshold[0];
+    private int size;
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean add(EnergyThreshold threshold) {
+        if (indexOf(threshold) >= 0) {
+            return false;
+        }
+
+        if (size == amounts.length) {
+            int newCapacity = Math.max(8, size * 2);
+            amounts = Arrays.copyOf(amounts, newCapacity);
+            thresholds = Arrays.copyOf(thresholds, newCapacity);
+        }
+
+        // Insert after all thresholds with the same amount
+        int idx = firstAbove(threshold.getThreshold());
+        System.arraycopy(amounts, idx, amounts, idx + 1, size - idx);
+        System.arraycopy(thresholds, idx, thresholds, idx + 1, size - idx);
+        amounts[idx] = threshold.getThreshold();
+        thresholds[idx] = threshold;
+        size++;
+        return true;
+    }
+
+    public boolean remove(EnergyThreshold threshold) {
+        int idx = indexOf(threshold);
+        if (idx < 0) {
+            return false;
+        }
+
+        System.arraycopy(amounts, idx + 1, amounts, idx, size - idx - 1);
+        System.arraycopy(thresholds, idx + 1, thresholds, idx, size - idx - 1);
+        size--;
+        thresholds[size] = null;
+        return true;
+    }
+
+    /**
+     * Notifies the watchers of all thresholds that were crossed when the stored power changed between the two given
+     * amounts. A threshold is crossed if the stored power was below it before and is now at or above it, or the other
+     * way around. Power that stays at the same amount does not cross anything.
+     */
+    public void postCrossedThresholds(double oldPower, double newPower, EnergyService service) {
+        if (oldPower == newPower) {
+            return;
+        }
+
+        double low = Math.min(oldPower, newPower);
+        double high = Math.max(oldPower, newPower);
+        for (int i = firstAbove(low); i < size && amounts[i] <= high; i++) {
+            ((EnergyWatcher) thresholds[i].getEnergyWatcher()).post(service);
+        }
+    }
+
+    /**
+     * @return The index of the first threshold with an amount strictly greater than the given amount.
+     */
+    private int firstAbove(double amount) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (amounts[mid] <= amount) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int indexOf(EnergyThreshold threshold) {
+        var amount = threshold.getThreshold();
+        for (int i = firstAbove(amount) - 1; i >= 0 && amounts[i] == amount; i--) {
+            if (thresholds[i].equals(threshold)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -20,6 +20,7 @@
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -176,8 +177,11 @@ public void onServerEndTick() {
                     for (var watcher : interestManager.get(what)) {
                         watcher.getHost().onRequestChange(what);
                     }
+                }
+                if (!changed.isEmpty()) {
+                    var changedView = Collections.unmodifiableSet(changed);
                     for (var watcher : interestManager.getAllStacksWatchers()) {
-                        watcher.getHost().onRequestChange(what);
+                        watcher.getHost().onRequestChanges(changedView);
                     }
                 }
             }
@@ -205,8 +209,11 @@ public void onServerEndTick() {
                         for (var watcher : interestManager.get(what)) {
                             watcher.getHost().onCraftableChange(what);
                         }
+                    }
+                    if (!changedCraftable.isEmpty()) {
+                        var changedView = Collections.unmodifiableSet(changedCraftable);
                         for (var watcher : interestManager.getAllStacksWatchers()) {
-                            watcher.getHost().onCraftableChange(what);
+                            watcher.getHost().onCraftableChanges(changedView);
                         }
                     }
                 }
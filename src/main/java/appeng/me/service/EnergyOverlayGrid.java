@@ -11,6 +11,7 @@
 
 import appeng.api.networking.energy.IPassiveEnergyGenerator;
 import appeng.core.AELog;
+import appeng.hooks.ticking.TickHandler;
 
 /**
  * This class caches all energy services that are part of the overlay energy grid. This overlay grid can span multiple
@@ -33,6 +34,14 @@ class EnergyOverlayGrid {
     @Nullable
     private IPassiveEnergyGenerator currentPassiveGenerator;
 
+    /**
+     * A lower bound for the energy that can still be extracted from this overlay grid in the current tick, learned from
+     * previous simulated extractions. Simulated extractions up to this amount are answered without asking every energy
+     * service and provider again. Only valid during {@link #knownAvailablePowerTick}.
+     */
+    private double knownAvailablePower;
+    private long knownAvailablePowerTick = -1;
+
     private EnergyOverlayGrid(List<EnergyService> energyServices) {
         this.energyServices = energyServices;
     }
@@ -53,6 +62,35 @@ public void setCurrentPassiveGenerator(@Nullable IPassiveEnergyGenerator current
         this.currentPassiveGenerator = currentPassiveGenerator;
     }
 
+    double getKnownAvailablePower() {
+        if (knownAvailablePowerTick != TickHandler.instance().getCurrentTick()) {
+            return 0;
+        }
+        return knownAvailablePower;
+    }
+
+    /**
+     * Records that a simulated extraction found the given amount of energy.
+     */
+    void setKnownAvailablePower(double availablePower) {
+        knownAvailablePower = availablePower;
+        knownAvailablePowerTick = TickHandler.instance().getCurrentTick();
+    }
+
+    /**
+     * Called for every actual extraction from one of the energy services of this overlay grid.
+     */
+    void onPowerExtracted(double extracted) {
+        knownAvailablePower = Math.max(0, knownAvailablePower - extracted);
+    }
+
+    /**
+     * Called when energy might have been lost in other ways than being extracted, i.e. by removing storage.
+     */
+    void resetKnownAvailablePower() {
+        knownAvailablePowerTick = -1;
+    }
+
     /**
      * Build a new overlay energy grid by discovering all accessible {@linkplain EnergyService energy services} starting
      * with the given grid.
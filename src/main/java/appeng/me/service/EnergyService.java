@@ -25,7 +25,6 @@
 import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
-import java.util.NavigableSet;
 import java.util.Objects;
 import java.util.Set;
 import java.util.SortedSet;
@@ -33,7 +32,6 @@
 import com.google.common.base.Preconditions;
 import com.google.common.collect.HashMultiset;
 import com.google.common.collect.Multiset;
-import com.google.common.collect.Sets;
 
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.VisibleForTesting;
@@ -63,6 +61,7 @@
 import appeng.me.Grid;
 import appeng.me.GridNode;
 import appeng.me.energy.EnergyThreshold;
+import appeng.me.energy.EnergyThresholdIndex;
 import appeng.me.energy.EnergyWatcher;
 import appeng.me.energy.GridEnergyStorage;
 import appeng.me.energy.IEnergyOverlayGridConnection;
@@ -91,7 +90,7 @@ public class EnergyService implements IEnergyService, IGridServiceProvider {
     private static final Comparator<IAEPowerStorage> COMPARATOR_LOWEST_PRIORITY_FIRST = (o1,
             o2) -> -COMPARATOR_HIGHEST_PRIORITY_FIRST.compare(o1, o2);
 
-    private final NavigableSet<EnergyThreshold> interests = Sets.newTreeSet();
+    private final EnergyThresholdIndex interests = new EnergyThresholdIndex();
     private final double averageLength = 40.0;
 
     // Should only be modified from the add/remove methods below to guard against
@@ -218,14 +217,7 @@ public void onServerEndTick() {
             final double oldPower = this.lastStoredPower;
             this.lastStoredPower = this.getStoredPower();
 
-            final EnergyThreshold low = new EnergyThreshold(Math.min(oldPower, this.lastStoredPower),
-                    Integer.MIN_VALUE);
-            final EnergyThreshold high = new EnergyThreshold(Math.max(oldPower, this.lastStoredPower),
-                    Integer.MAX_VALUE);
-
-            for (EnergyThreshold th : this.interests.subSet(low, true, high, true)) {
-                ((EnergyWatcher) th.getEnergyWatcher()).post(this);
-            }
+            this.interests.postCrossedThresholds(oldPower, this.lastStoredPower, this);
         }
 
         this.avgDrainPerTick *= (this.averageLength - 1) / this.averageLength;
@@ -271,9 +263,17 @@ public void onServerEndTick() {
     @Override
     public double extractAEPower(double amt, Actionable mode, PowerMultiplier pm) {
         final double toExtract = pm.multiply(amt);
+
+        // Devices usually simulate an extraction before performing it, often many times per tick. If an earlier
+        // simulation in this tick already found enough energy, there's no need to ask all providers again.
+        var overlayGrid = getOverlayGrid();
+        if (mode == Actionable.SIMULATE && toExtract <= overlayGrid.getKnownAvailablePower()) {
+            return amt;
+        }
+
         double extracted = 0;
 
-        for (EnergyService service : getConnectedServices()) {
+        for (EnergyService service : overlayGrid.energyServices) {
             extracted += service.extractProviderPower(toExtract - extracted, mode);
 
             if (extracted >= toExtract) {
@@ -281,6 +281,10 @@ public double extractAEPower(double amt, Actionable mode, PowerMultiplier pm) {
             }
         }
 
+        if (mode == Actionable.SIMULATE) {
+            overlayGrid.setKnownAvailablePower(extracted);
+        }
+
         return pm.divide(extracted);
     }
 
@@ -356,6 +360,10 @@ public double extractProviderPower(double amt, Actionable mode) {
 
             this.globalAvailablePower -= result;
             this.tickDrainPerTick += result;
+
+            if (this.overlayGrid != null) {
+                this.overlayGrid.onPowerExtracted(result);
+            }
         }
 
         return result;
@@ -469,6 +477,10 @@ public double getEnergyDemand(double maxRequired) {
     @Override
     public void removeNode(IGridNode node) {
         localStorage.removeNode();
+        // Removing a node may remove storage or reduce the capacity of the local storage
+        if (this.overlayGrid != null) {
+            this.overlayGrid.resetKnownAvailablePower();
+        }
 
         var gridProvider = node.getService(IEnergyOverlayGridConnection.class);
         if (gridProvider != null) {
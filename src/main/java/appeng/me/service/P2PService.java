@@ -18,17 +18,23 @@
 
 package appeng.me.service;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Random;
+import java.util.Set;
 import java.util.stream.Stream;
 
-import com.google.common.collect.LinkedHashMultimap;
-import com.google.common.collect.Multimap;
-
 import org.jetbrains.annotations.Nullable;
 
 import net.minecraft.nbt.CompoundTag;
 
+import it.unimi.dsi.fastutil.objects.Reference2ShortMap;
+import it.unimi.dsi.fastutil.objects.Reference2ShortOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.shorts.Short2ObjectMap;
+import it.unimi.dsi.fastutil.shorts.Short2ObjectOpenHashMap;
+
 import appeng.api.networking.GridFlags;
 import appeng.api.networking.GridHelper;
 import appeng.api.networking.IGrid;
@@ -60,8 +66,20 @@ public static P2PService get(IGrid grid) {
     }
 
     private final IGrid myGrid;
-    private final HashMap<Short, P2PTunnelPart<?>> inputs = new HashMap<>();
-    private final Multimap<Short, P2PTunnelPart<?>> outputs = LinkedHashMultimap.create();
+    private final Short2ObjectMap<P2PTunnelPart<?>> inputs = new Short2ObjectOpenHashMap<>();
+    private final Short2ObjectMap<Set<P2PTunnelPart<?>>> outputs = new Short2ObjectOpenHashMap<>();
+    /**
+     * The frequency each tunnel is registered under, which can differ from its current frequency while it is being
+     * re-keyed.
+     */
+    private final Reference2ShortMap<P2PTunnelPart<?>> inputFrequencies = new Reference2ShortOpenHashMap<>();
+    private final Reference2ShortMap<P2PTunnelPart<?>> outputFrequencies = new Reference2ShortOpenHashMap<>();
+    /**
+     * The outputs of frequencies that tunnels asked for, filtered by the type of the asking tunnel. Tunnels such as
+     * energy tunnels ask for their outputs many times per tick, so this is only rebuilt when the input or outputs of a
+     * frequency change.
+     */
+    private final Short2ObjectMap<CachedOutputs> cachedOutputs = new Short2ObjectOpenHashMap<>();
     private final Random frequencyGenerator;
 
     public P2PService(IGrid g) {
@@ -85,11 +103,7 @@ public void removeNode(IGridNode node) {
                 return;
             }
 
-            if (tunnel.isOutput()) {
-                this.outputs.remove(tunnel.getFrequency(), tunnel);
-            } else {
-                this.inputs.remove(tunnel.getFrequency());
-            }
+            this.unregister(tunnel);
 
             this.updateTunnel(tunnel.getFrequency(), !tunnel.isOutput(), false);
         }
@@ -104,19 +118,49 @@ public void addNode(IGridNode node, @Nullable CompoundTag savedData) {
 
             // AELog.info( "add-" + (t.output ? "output: " : "input: ") + t.freq );
 
-            if (tunnel.isOutput()) {
-                this.outputs.put(tunnel.getFrequency(), tunnel);
-            } else {
-                this.inputs.put(tunnel.getFrequency(), tunnel);
-            }
+            this.register(tunnel);
 
             this.updateTunnel(tunnel.getFrequency(), !tunnel.isOutput(), false);
         }
     }
 
+    private void register(P2PTunnelPart<?> tunnel) {
+        var freq = tunnel.getFrequency();
+        if (tunnel.isOutput()) {
+            this.outputs.computeIfAbsent(freq, f -> new ReferenceLinkedOpenHashSet<>()).add(tunnel);
+            this.outputFrequencies.put(tunnel, freq);
+        } else {
+            this.inputs.put(freq, tunnel);
+            this.inputFrequencies.put(tunnel, freq);
+        }
+        this.cachedOutputs.remove(freq);
+    }
+
+    /**
+     * Removes the tunnel from the frequency it was registered under, regardless of its current frequency or whether it
+     * currently is an output.
+     */
+    private void unregister(P2PTunnelPart<?> tunnel) {
+        if (this.outputFrequencies.containsKey(tunnel)) {
+            var freq = this.outputFrequencies.removeShort(tunnel);
+            var frequencyOutputs = this.outputs.get(freq);
+            if (frequencyOutputs != null && frequencyOutputs.remove(tunnel) && frequencyOutputs.isEmpty()) {
+                this.outputs.remove(freq);
+            }
+            this.cachedOutputs.remove(freq);
+        }
+
+        if (this.inputFrequencies.containsKey(tunnel)) {
+            var freq = this.inputFrequencies.removeShort(tunnel);
+            // Another input might have taken over the frequency in the meantime
+            this.inputs.remove(freq, tunnel);
+            this.cachedOutputs.remove(freq);
+        }
+    }
+
     private void updateTunnel(short freq, boolean updateOutputs, boolean configChange) {
         if (updateOutputs) {
-            for (P2PTunnelPart p : this.outputs.get(freq)) {
+            for (P2PTunnelPart p : this.outputs.getOrDefault(freq, Set.of())) {
                 if (configChange) {
                     p.onTunnelConfigChange();
                 }
@@ -135,22 +179,12 @@ private void updateTunnel(short freq, boolean updateOutputs, boolean configChang
     }
 
     public void updateFreq(P2PTunnelPart t, short newFrequency) {
-        if (this.outputs.containsValue(t)) {
-            this.outputs.remove(t.getFrequency(), t);
-        }
-
-        if (this.inputs.containsValue(t)) {
-            this.inputs.remove(t.getFrequency());
-        }
+        this.unregister(t);
 
         var oldFrequency = t.getFrequency();
         t.setFrequency(newFrequency);
 
-        if (t.isOutput()) {
-            this.outputs.put(t.getFrequency(), t);
-        } else {
-            this.inputs.put(t.getFrequency(), t);
-        }
+        this.register(t);
 
         if (oldFrequency != newFrequency) {
             this.updateTunnel(oldFrequency, true, true);
@@ -177,19 +211,45 @@ public short newFrequency() {
     }
 
     public <T extends P2PTunnelPart<T>> Stream<T> getOutputs(short freq, Class<T> c) {
+        return getOutputList(freq, c).stream();
+    }
+
+    /**
+     * @return The outputs of the given frequency that are of the given type, or an empty list if the frequency has no
+     *         input of that type. The returned list is unmodifiable and is not affected by later changes to the
+     *         frequency.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends P2PTunnelPart<T>> List<T> getOutputList(short freq, Class<T> c) {
+        var cached = this.cachedOutputs.get(freq);
+        if (cached != null && cached.type() == c) {
+            return (List<T>) cached.outputs();
+        }
+
+        List<T> result;
         // Check that a matching input exists for the requested type
         var input = this.inputs.get(freq);
         if (!c.isInstance(input)) {
-            return Stream.empty();
+            result = List.of();
+        } else {
+            var frequencyOutputs = this.outputs.getOrDefault(freq, Set.of());
+            var matchingOutputs = new ArrayList<T>(frequencyOutputs.size());
+            for (var output : frequencyOutputs) {
+                if (c.isInstance(output)) {
+                    matchingOutputs.add(c.cast(output));
+                }
+            }
+            result = Collections.unmodifiableList(matchingOutputs);
         }
 
-        return this.outputs.get(freq)
-                .stream()
-                .filter(c::isInstance)
-                .map(c::cast);
+        this.cachedOutputs.put(freq, new CachedOutputs(c, result));
+        return result;
     }
 
     public P2PTunnelPart getInput(short freq) {
         return this.inputs.get(freq);
     }
+
+    private record CachedOutputs(Class<?> type, List<?> outputs) {
+    }
 }
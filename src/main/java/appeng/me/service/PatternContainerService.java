@@ -0,0 +1,182 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2021, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.gson.stream.JsonWriter;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.core.HolderLookup;
+import net.minecraft.nbt.CompoundTag;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+
+import appeng.api.networking.GridHelper;
+import appeng.api.networking.IGrid;
+import appeng.api.networking.IGridNode;
+import appeng.api.networking.IGridService;
+import appeng.api.networking.IGridServiceProvider;
+import appeng.api.networking.events.GridBootingStatusChange;
+import appeng.api.networking.events.GridPowerStatusChange;
+import appeng.helpers.patternprovider.PatternContainer;
+import appeng.util.JsonStreamUtil;
+
+/**
+ * Keeps track of all {@link PatternContainer} on a grid, and notifies listeners (i.e. the pattern access terminal)
+ * about containers becoming active or inactive, and about changes to their patterns or terminal group.
+ * <p/>
+ * The active state of nodes can only change when nodes join or leave, the grid reboots or its power state changes. The
+ * set of active containers is only recomputed after one of these events, instead of every terminal checking every
+ * machine on every tick.
+ */
+public class PatternContainerService implements IGridService, IGridServiceProvider {
+    static {
+        GridHelper.addGridServiceEventHandler(GridBootingStatusChange.class, PatternContainerService.class,
+                (service, evt) -> service.activeStateChanged = true);
+        GridHelper.addGridServiceEventHandler(GridPowerStatusChange.class, PatternContainerService.class,
+                (service, evt) -> service.activeStateChanged = true);
+    }
+
+    public static PatternContainerService get(IGrid grid) {
+        return grid.getService(PatternContainerService.class);
+    }
+
+    private final Map<PatternContainer, IGridNode> containers = new Reference2ObjectLinkedOpenHashMap<>();
+    private final Set<PatternContainer> activeContainers = new ReferenceLinkedOpenHashSet<>();
+    private final List<Listener> listeners = new ArrayList<>();
+    private boolean activeStateChanged;
+
+    @Override
+    public void addNode(IGridNode gridNode, @Nullable CompoundTag savedData) {
+        if (gridNode.getOwner() instanceof PatternContainer container) {
+            containers.put(container, gridNode);
+            activeStateChanged = true;
+        }
+    }
+
+    @Override
+    public void removeNode(IGridNode gridNode) {
+        if (gridNode.getOwner() instanceof PatternContainer container) {
+            containers.remove(container);
+            if (activeContainers.remove(container)) {
+                for (var listener : listeners) {
+                    listener.onContainerRemoved(container);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void onServerEndTick() {
+        // Nobody is interested in the active containers, defer this until someone asks
+        if (activeStateChanged && !listeners.isEmpty()) {
+            updateActiveContainers();
+        }
+    }
+
+    private void updateActiveContainers() {
+        activeStateChanged = false;
+
+        for (var entry : containers.entrySet()) {
+            var container = entry.getKey();
+            boolean active = entry.getValue().isActive();
+            if (active && activeContainers.add(container)) {
+                for (var listener : listeners) {
+                    listener.onContainerAdded(container);
+                }
+            } else if (!active && activeContainers.remove(container)) {
+                for (var listener : listeners) {
+                    listener.onContainerRemoved(container);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return The containers on this grid that are currently active.
+     */
+    public Set<PatternContainer> getActiveContainers() {
+        if (activeStateChanged) {
+            updateActiveContainers();
+        }
+        return Collections.unmodifiableSet(activeContainers);
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Called by containers when the content of their {@link PatternContainer#getTerminalPatternInventory() pattern
+     * inventory} or their visibility in the terminal changes.
+     */
+    public void notifyPatternsChanged(PatternContainer container) {
+        if (activeContainers.contains(container)) {
+            for (var listener : listeners) {
+                listener.onPatternsChanged(container);
+            }
+        }
+    }
+
+    /**
+     * Called by containers when their {@link PatternContainer#getTerminalGroup() terminal group} might have changed.
+     * Listeners are responsible for checking whether it actually did.
+     */
+    public void notifyGroupChanged(PatternContainer container) {
+        if (activeContainers.contains(container)) {
+            for (var listener : listeners) {
+                listener.onGroupChanged(container);
+            }
+        }
+    }
+
+    @Override
+    public void debugDump(JsonWriter writer, HolderLookup.Provider registries) throws IOException {
+        JsonStreamUtil.writeProperties(Map.<String, Object>of(
+                "containers", containers.size(),
+                "activeContainers", activeContainers.size(),
+                "listeners", listeners.size()), writer);
+    }
+
+    /**
+     * Receives change notifications for the pattern containers on a grid. Make sure to remove it by calling
+     * {@link #removeListener} when no longer needed.
+     */
+    public interface Listener {
+        void onContainerAdded(PatternContainer container);
+
+        void onContainerRemoved(PatternContainer container);
+
+        void onPatternsChanged(PatternContainer container);
+
+        void onGroupChanged(PatternContainer container);
+    }
+}
@@ -42,6 +42,7 @@
 import net.minecraft.nbt.NbtOps;
 
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongMaps;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 
 import appeng.api.networking.IGridNode;
@@ -91,6 +92,11 @@ public class StorageService implements IStorageService, IGridServiceProvider {
 
     private final StatsAccumulator inventoryRefreshStats = new StatsAccumulator();
 
+    /**
+     * Changes collected during a refresh of the cached stacks, which are posted to watchers of all stacks at once.
+     */
+    private final Object2LongMap<AEKey> changesForAllStacksWatchers = new Object2LongOpenHashMap<>();
+
     public StorageService() {
         this.storage = new NetworkStorage();
     }
@@ -134,12 +140,20 @@ private void updateCachedStacks() {
                 }
             }
 
+            if (!changesForAllStacksWatchers.isEmpty()) {
+                var changes = Object2LongMaps.unmodifiable(changesForAllStacksWatchers);
+                for (var watcher : interestManager.getAllStacksWatchers()) {
+                    watcher.getHost().onStackChanges(changes);
+                }
+            }
+
             // Update private amounts
             cachedAvailableAmounts.clear();
             for (var entry : cachedAvailableStacks) {
                 cachedAvailableAmounts.put(entry.getKey(), entry.getLongValue());
             }
         } finally {
+            changesForAllStacksWatchers.clear();
             inventoryRefreshStats.add(System.nanoTime() - time);
         }
     }
@@ -148,8 +162,8 @@ private void postWatcherUpdate(AEKey what, long newAmount) {
         for (var watcher : interestManager.get(what)) {
             watcher.getHost().onStackChange(what, newAmount);
         }
-        for (var watcher : interestManager.getAllStacksWatchers()) {
-            watcher.getHost().onStackChange(what, newAmount);
+        if (!interestManager.getAllStacksWatchers().isEmpty()) {
+            changesForAllStacksWatchers.put(what, newAmount);
         }
     }
 
@@ -0,0 +1,202 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2021, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.stream.JsonWriter;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.level.Level;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+
+import appeng.api.networking.IGrid;
+import appeng.api.networking.IGridNode;
+import appeng.api.networking.IGridService;
+import appeng.api.networking.IGridServiceProvider;
+import appeng.blockentity.networking.WirelessAccessPointBlockEntity;
+import appeng.core.AEConfig;
+import appeng.util.JsonStreamUtil;
+
+/**
+ * Indexes the wireless access points of a grid by level and position, so that wireless terminals only need to look at
+ * the access points that could possibly be in range, instead of every access point on the grid.
+ * <p/>
+ * Access points are sorted into cubic cells. A query looks at all cells within the largest range of any access point in
+ * the same level. If that would be more cells than there are occupied cells in the level, all access points in the
+ * level are returned instead.
+ */
+public class WirelessAccessPointService implements IGridService, IGridServiceProvider {
+
+    /**
+     * Cells are 64 blocks wide, which is four times the default base range of an access point.
+     */
+    private static final int CELL_SHIFT = 6;
+
+    public static WirelessAccessPointService get(IGrid grid) {
+        return grid.getService(WirelessAccessPointService.class);
+    }
+
+    private final Map<Level, LevelIndex> levels = new Reference2ObjectOpenHashMap<>();
+
+    @Override
+    public void addNode(IGridNode gridNode, @Nullable CompoundTag savedData) {
+        if (gridNode.getOwner() instanceof WirelessAccessPointBlockEntity accessPoint) {
+            levels.computeIfAbsent(gridNode.getLevel(), level -> new LevelIndex()).add(accessPoint);
+        }
+    }
+
+    @Override
+    public void removeNode(IGridNode gridNode) {
+        if (gridNode.getOwner() instanceof WirelessAccessPointBlockEntity accessPoint) {
+            var index = levels.get(gridNode.getLevel());
+            if (index != null) {
+                index.remove(accessPoint);
+                if (index.accessPoints.isEmpty()) {
+                    levels.remove(gridNode.getLevel());
+                }
+            }
+        }
+    }
+
+    /**
+     * Called by access points when the number of boosters they contain might have changed.
+     */
+    public void onRangeChanged(WirelessAccessPointBlockEntity accessPoint) {
+        var index = levels.get(accessPoint.getLevel());
+        if (index != null && index.accessPoints.contains(accessPoint)) {
+            index.maxBoostersStale = true;
+        }
+    }
+
+    /**
+     * Finds all access points of this grid that might be in range of the given position. The caller still has to check
+     * the actual range and state of each returned access point.
+     */
+    public List<WirelessAccessPointBlockEntity> getAccessPointsNear(Level level, double x, double y, double z) {
+        var index = levels.get(level);
+        if (index == null) {
+            return List.of();
+        }
+        return index.getAccessPointsNear(x, y, z);
+    }
+
+    @Override
+    public void debugDump(JsonWriter writer, HolderLookup.Provider registries) throws IOException {
+        int accessPoints = 0;
+        int cells = 0;
+        for (var index : levels.values()) {
+            accessPoints += index.accessPoints.size();
+            cells += index.cells.size();
+        }
+        JsonStreamUtil.writeProperties(Map.<String, Object>of(
+                "levels", levels.size(),
+                "accessPoints", accessPoints,
+                "cells", cells), writer);
+    }
+
+    private static long getCellKey(int cellX, int cellY, int cellZ) {
+        return BlockPos.asLong(cellX, cellY, cellZ);
+    }
+
+    private static class LevelIndex {
+        private final List<WirelessAccessPointBlockEntity> accessPoints = new ArrayList<>();
+        private final Long2ObjectMap<List<WirelessAccessPointBlockEntity>> cells = new Long2ObjectOpenHashMap<>();
+        /**
+         * The range of access points depends on the config, so the number of boosters is tracked instead of the range.
+         */
+        private int maxBoosters;
+        private boolean maxBoostersStale;
+
+        void add(WirelessAccessPointBlockEntity accessPoint) {
+            accessPoints.add(accessPoint);
+            cells.computeIfAbsent(getCellKey(accessPoint.getBlockPos()), key -> new ArrayList<>()).add(accessPoint);
+            maxBoosters = Math.max(maxBoosters, accessPoint.getBoosters());
+        }
+
+        void remove(WirelessAccessPointBlockEntity accessPoint) {
+            if (!accessPoints.remove(accessPoint)) {
+                return;
+            }
+
+            var cellKey = getCellKey(accessPoint.getBlockPos());
+            var cell = cells.get(cellKey);
+            if (cell != null) {
+                cell.remove(accessPoint);
+                if (cell.isEmpty()) {
+                    cells.remove(cellKey);
+                }
+            }
+            maxBoostersStale = true;
+        }
+
+        List<WirelessAccessPointBlockEntity> getAccessPointsNear(double x, double y, double z) {
+            if (maxBoostersStale) {
+                maxBoostersStale = false;
+                maxBoosters = 0;
+                for (var accessPoint : accessPoints) {
+                    maxBoosters = Math.max(maxBoosters, accessPoint.getBoosters());
+                }
+            }
+
+            // One block of leeway to be safe from rounding
+            var maxRange = AEConfig.instance().wireless_getMaxRange(maxBoosters) + 1;
+            int minCellX = (int) Math.floor(x - maxRange) >> CELL_SHIFT;
+            int minCellY = (int) Math.floor(y - maxRange) >> CELL_SHIFT;
+            int minCellZ = (int) Math.floor(z - maxRange) >> CELL_SHIFT;
+            int maxCellX = (int) Math.floor(x + maxRange) >> CELL_SHIFT;
+            int maxCellY = (int) Math.floor(y + maxRange) >> CELL_SHIFT;
+            int maxCellZ = (int) Math.floor(z + maxRange) >> CELL_SHIFT;
+
+            long cellCount = (long) (maxCellX - minCellX + 1) * (maxCellY - minCellY + 1) * (maxCellZ - minCellZ + 1);
+            if (cellCount >= cells.size()) {
+                return Collections.unmodifiableList(accessPoints);
+            }
+
+            var result = new ArrayList<WirelessAccessPointBlockEntity>();
+            for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+                for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+                    for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+                        var cell = cells.get(getCellKey(cellX, cellY, cellZ));
+                        if (cell != null) {
+                            result.addAll(cell);
+                        }
+                    }
+                }
+            }
+            return result;
+        }
+
+        private static long getCellKey(BlockPos pos) {
+            return WirelessAccessPointService.getCellKey(pos.getX() >> CELL_SHIFT, pos.getY() >> CELL_SHIFT,
+                    pos.getZ() >> CELL_SHIFT);
+        }
+    }
+}
@@ -18,8 +18,10 @@
 
 package appeng.menu.guisync;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
 
 import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.world.inventory.AbstractContainerMenu;
@@ -31,80 +33,108 @@
 /**
  * Helper class for synchronizing fields from server-side menus to client-side menus. Fields need to be annotated with
  * {@link GuiSync} and given a unique key within the class hierarchy.
+ * <p/>
+ * Fields are ordered by their key, which is identical on server and client. Updates are written as a single bitmask of
+ * changed field indices, followed by the values of those fields in index order.
  */
 public class DataSynchronization {
 
-    private final Map<Short, SynchronizedField<?>> fields = new HashMap<>();
+    private final SynchronizedField[] fields;
+    private final short[] keys;
+
+    /**
+     * Reused between ticks to avoid allocating when checking for changes.
+     */
+    private final BitSet changedFields;
 
     public DataSynchronization(Object host) {
-        collectFields(host, host.getClass());
+        var collected = new ArrayList<KeyedField>();
+        collectFields(host, host.getClass(), collected);
+        collected.sort(Comparator.comparingInt(KeyedField::key));
+
+        this.fields = new SynchronizedField[collected.size()];
+        this.keys = new short[collected.size()];
+        for (int i = 0; i < collected.size(); i++) {
+            this.fields[i] = collected.get(i).field();
+            this.keys[i] = collected.get(i).key();
+        }
+        this.changedFields = new BitSet(fields.length);
     }
 
-    private void collectFields(Object host, Class<?> clazz) {
+    private static void collectFields(Object host, Class<?> clazz, List<KeyedField> collected) {
         for (var f : clazz.getDeclaredFields()) {
             if (f.isAnnotationPresent(GuiSync.class)) {
                 var annotation = f.getAnnotation(GuiSync.class);
                 short key = annotation.value();
-                if (this.fields.containsKey(key)) {
-                    throw new IllegalStateException(
-                            "Class " + host.getClass() + " declares the same sync id twice: " + key);
+                for (var existing : collected) {
+                    if (existing.key() == key) {
+                        throw new IllegalStateException(
+                                "Class " + host.getClass() + " declares the same sync id twice: " + key);
+                    }
                 }
-                this.fields.put(key, SynchronizedField.create(host, f));
+                collected.add(new KeyedField(key, SynchronizedField.create(host, f)));
             }
         }
 
         // Recurse upwards through the class hierarchy
         Class<?> superclass = clazz.getSuperclass();
         if (superclass != AbstractContainerMenu.class && superclass != Object.class) {
-            collectFields(host, superclass);
+            collectFields(host, superclass, collected);
         }
     }
 
     public boolean hasChanges() {
-        for (SynchronizedField<?> value : fields.values()) {
-            if (value.hasChanges()) {
-                return true;
+        return collectChanges();
+    }
+
+    /**
+     * Updates {@link #changedFields} with the fields whose value differs from the last value sent to the client.
+     */
+    private boolean collectChanges() {
+        changedFields.clear();
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i].hasChanges()) {
+                changedFields.set(i);
             }
         }
-        return false;
+        return !changedFields.isEmpty();
     }
 
     /**
      * Write the data for all fields to the given buffer, and marks all fields as unchanged.
      */
     public void writeFull(RegistryFriendlyByteBuf data) {
-        writeFields(data, true);
+        changedFields.set(0, fields.length);
+        writeFields(data);
     }
 
     /**
      * Write the data for changed fields to the given buffer, and marks all fields as unchanged.
      */
     public void writeUpdate(RegistryFriendlyByteBuf data) {
-        writeFields(data, false);
+        collectChanges();
+        writeFields(data);
     }
 
-    private void writeFields(RegistryFriendlyByteBuf data, boolean includeUnchanged) {
-        for (Map.Entry<Short, SynchronizedField<?>> entry : fields.entrySet()) {
-            if (includeUnchanged || entry.getValue().hasChanges()) {
-                data.writeShort(entry.getKey());
-                entry.getValue().write(data);
-            }
+    private void writeFields(RegistryFriendlyByteBuf data) {
+        data.writeLongArray(changedFields.toLongArray());
+        for (int i = changedFields.nextSetBit(0); i >= 0; i = changedFields.nextSetBit(i + 1)) {
+            fields[i].write(data);
         }
-
-        // Terminator
-        data.writeVarInt(-1);
+        changedFields.clear();
     }
 
     public void readUpdate(RegistryFriendlyByteBuf data, ShortSet updatedFields) {
-        for (short key = data.readShort(); key != -1; key = data.readShort()) {
-            SynchronizedField<?> field = fields.get(key);
-            if (field == null) {
-                AELog.warn("Server sent update for GUI field %d, which we don't know.", key);
-                continue;
+        var updated = BitSet.valueOf(data.readLongArray());
+        for (int i = updated.nextSetBit(0); i >= 0; i = updated.nextSetBit(i + 1)) {
+            if (i >= fields.length) {
+                // Since the values that follow can't be skipped without knowing their type, stop here
+                AELog.warn("Server sent update for GUI field index %d, but only %d are known.", i, fields.length);
+                return;
             }
 
-            field.read(data);
-            updatedFields.add(key);
+            fields[i].read(data);
+            updatedFields.add(keys[i]);
         }
     }
 
@@ -112,6 +142,9 @@ public void readUpdate(RegistryFriendlyByteBuf data, ShortSet updatedFields) {
      * @return True if any synchronized fields exist.
      */
     public boolean hasFields() {
-        return !fields.isEmpty();
+        return fields.length > 0;
+    }
+
+    private record KeyedField(short key, SynchronizedField field) {
     }
 }
@@ -20,6 +20,7 @@
 
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.util.HashMap;
@@ -38,60 +39,57 @@
 
 /**
  * This class is responsible for synchronizing menu-fields from server to client.
+ * <p/>
+ * Field access goes through method handles that are bound to the menu instance and adapted to an exact type once, so
+ * that polling for changes every tick neither goes through reflection nor boxes primitive values.
  */
-public abstract class SynchronizedField<T> {
+public abstract class SynchronizedField {
 
-    private final Object source;
-    protected final MethodHandle getter;
-    protected final MethodHandle setter;
-    protected T clientVersion;
+    private final Field field;
 
-    private SynchronizedField(Object source, Field field) {
-        this.clientVersion = null;
-        this.source = source;
-        field.setAccessible(true);
+    private SynchronizedField(Field field) {
+        this.field = field;
+    }
+
+    /**
+     * @return True if the current value of the field differs from what was last sent to the client.
+     */
+    public abstract boolean hasChanges();
+
+    /**
+     * Writes the current value of the field and remembers it as the value known to the client.
+     */
+    public abstract void write(RegistryFriendlyByteBuf data);
+
+    /**
+     * Reads a value written by {@link #write} and stores it in the field.
+     */
+    public abstract void read(RegistryFriendlyByteBuf data);
+
+    protected final MethodHandle getter(Object source, Class<?> type) {
         try {
-            this.getter = MethodHandles.publicLookup().unreflectGetter(field);
-            this.setter = MethodHandles.publicLookup().unreflectSetter(field);
+            return MethodHandles.publicLookup().unreflectGetter(field)
+                    .bindTo(source)
+                    .asType(MethodType.methodType(type));
         } catch (IllegalAccessException e) {
             throw new RuntimeException(
                     "Failed to get accessor for field " + field + ". Did you forget to make it public?");
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private T getCurrentValue() {
-        try {
-            return (T) this.getter.invoke(source);
-        } catch (Throwable throwable) {
-            throw new RuntimeException(throwable);
-        }
-    }
-
-    public boolean hasChanges() {
-        return !Objects.equals(getCurrentValue(), this.clientVersion);
-    }
-
-    public final void write(RegistryFriendlyByteBuf data) {
-        T currentValue = getCurrentValue();
-        this.clientVersion = currentValue;
-        this.writeValue(data, currentValue);
-    }
-
-    public final void read(RegistryFriendlyByteBuf data) {
-        T value = readValue(data);
+    protected final MethodHandle setter(Object source, Class<?> type) {
         try {
-            setter.invoke(source, value);
-        } catch (Throwable throwable) {
-            throw new RuntimeException(throwable);
+            return MethodHandles.publicLookup().unreflectSetter(field)
+                    .bindTo(source)
+                    .asType(MethodType.methodType(void.class, type));
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(
+                    "Failed to get accessor for field " + field + ". Did you forget to make it public?");
         }
     }
 
-    protected abstract void writeValue(RegistryFriendlyByteBuf data, T value);
-
-    protected abstract T readValue(RegistryFriendlyByteBuf data);
-
-    public static SynchronizedField<?> create(Object source, Field field) {
+    public static SynchronizedField create(Object source, Field field) {
+        field.setAccessible(true);
         Class<?> fieldType = field.getType();
 
         if (PacketWritable.class.isAssignableFrom(fieldType)) {
@@ -104,14 +102,20 @@ public static SynchronizedField<?> create(Object source, Field field) {
             return new ResourceLocationField(source, field);
         } else if (fieldType == String.class) {
             return new StringField(source, field);
-        } else if (fieldType == int.class || fieldType == Integer.class) {
+        } else if (fieldType == int.class) {
+            return new IntField(source, field);
+        } else if (fieldType == Integer.class) {
             return new IntegerField(source, field);
-        } else if (fieldType == long.class || fieldType == Long.class) {
+        } else if (fieldType == long.class) {
             return new LongField(source, field);
+        } else if (fieldType == Long.class) {
+            return new BoxedLongField(source, field);
         } else if (fieldType == double.class) {
             return new DoubleField(source, field);
-        } else if (fieldType == boolean.class || fieldType == Boolean.class) {
+        } else if (fieldType == boolean.class) {
             return new BooleanField(source, field);
+        } else if (fieldType == Boolean.class) {
+            return new BoxedBooleanField(source, field);
         } else if (fieldType.isEnum()) {
             return createEnumField(source, field, fieldType.asSubclass(Enum.class));
         } else {
@@ -123,7 +127,227 @@ private static <T extends Enum<T>> EnumField<T> createEnumField(Object source, F
         return new EnumField<>(source, field, fieldType.getEnumConstants());
     }
 
-    private static class StringField extends SynchronizedField<String> {
+    /**
+     * Base class for fields holding object references. Changes are detected using {@link Objects#equals}.
+     */
+    private static abstract class ObjectField<T> extends SynchronizedField {
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+        private T clientVersion;
+
+        private ObjectField(Object source, Field field) {
+            super(field);
+            this.getter = getter(source, Object.class);
+            this.setter = setter(source, Object.class);
+        }
+
+        @SuppressWarnings("unchecked")
+        private T getCurrentValue() {
+            try {
+                return (T) (Object) this.getter.invokeExact();
+            } catch (Throwable throwable) {
+                throw new RuntimeException(throwable);
+            }
+        }
+
+        @Override
+        public boolean hasChanges() {
+            return !Objects.equals(getCurrentValue(), this.clientVersion);
+        }
+
+        @Override
+        public final void write(RegistryFriendlyByteBuf data) {
+            T currentValue = getCurrentValue();
+            this.clientVersion = currentValue;
+            this.writeValue(data, currentValue);
+        }
+
+        @Override
+        public final void read(RegistryFriendlyByteBuf data) {
+            Object value = readValue(data);
+            try {
+                setter.invokeExact(value);
+            } catch (Throwable throwable) {
+                throw new RuntimeException(throwable);
+            }
+        }
+
+        protected abstract void writeValue(RegistryFriendlyByteBuf data, T value);
+
+        protected abstract T readValue(RegistryFriendlyByteBuf data);
+    }
+
+    /**
+     * Base class for fields holding primitive values. Since a primitive can't be null, a separate flag tracks whether
+     * the client has received any value yet.
+     */
+    private static abstract class PrimitiveField extends SynchronizedField {
+        protected final MethodHandle getter;
+        protected final MethodHandle setter;
+        protected boolean clientInitialized;
+
+        private PrimitiveField(Object source, Field field, Class<?> type) {
+            super(field);
+            this.getter = getter(source, type);
+            this.setter = setter(source, type);
+        }
+    }
+
+    private static class IntField extends PrimitiveField {
+        private int clientVersion;
+
+        private IntField(Object source, Field field) {
+            super(source, field, int.class);
+        }
+
+        private int getCurrentValue() {
+            try {
+                return (int) getter.invokeExact();
+            } catch (Throwable throwable) {
+                throw new RuntimeException(throwable);
+            }
+        }
+
+        @Override
+        public boolean hasChanges() {
+            return !clientInitialized || getCurrentValue() != clientVersion;
+        }
+
+        @Override
+        public void write(RegistryFriendlyByteBuf data) {
+            clientVersion = getCurrentValue();
+            clientInitialized = true;
+            data.writeInt(clientVersion);
+        }
+
+        @Override
+        public void read(RegistryFriendlyByteBuf data) {
+            int value = data.readInt();
+            try {
+                setter.invokeExact(value);
+            } catch (Throwable throwable) {
+                throw new RuntimeException(throwable);
+            }
+        }
+    }
+
+    private static class LongField extends PrimitiveField {
+        private long clientVersion;
+
+        private LongField(Object source, Field field) {
+            super(source, field, long.class);
+        }
+
+        private long getCurrentValue() {
+            try {
+                return (long) getter.invokeExact();
+            } catch (Throwable throwable) {
+                throw new RuntimeException(throwable);
+            }
+        }
+
+        @Override
+        public boolean hasChanges() {
+            return !clientInitialized || getCurrentValue() != clientVersion;
+        }
+
+        @Override
+        public void write(RegistryFriendlyByteBuf data) {
+            clientVersion = getCurrentValue();
+            clientInitialized = true;
+            data.writeLong(clientVersion);
+        }
+
+        @Override
+        public void read(RegistryFriendlyByteBuf data) {
+            long value = data.readLong();
+            try {
+                setter.invokeExact(value);
+            } catch (Throwable throwable) {
+                throw new RuntimeException(throwable);
+            }
+        }
+    }
+
+    private static class DoubleField extends PrimitiveField {
+        private double clientVersion;
+
+        private DoubleField(Object source, Field field) {
+            super(source, field, double.class);
+        }
+
+        private double getCurrentValue() {
+            try {
+                return (double) getter.invokeExact();
+            } catch (Throwable throwable) {
+                throw new RuntimeException(throwable);
+            }
+        }
+
+        @Override
+        public boolean hasChanges() {
+            // Compare the raw bits to match the semantics of Double#equals (i.e. NaN is equal to itself)
+            return !clientInitialized
+                    || Double.doubleToLongBits(getCurrentValue()) != Double.doubleToLongBits(clientVersion);
+        }
+
+        @Override
+        public void write(RegistryFriendlyByteBuf data) {
+            clientVersion = getCurrentValue();
+            clientInitialized = true;
+            data.writeDouble(clientVersion);
+        }
+
+        @Override
+        public void read(RegistryFriendlyByteBuf data) {
+            double value = data.readDouble();
+            try {
+                setter.invokeExact(value);
+            } catch (Throwable throwable) {
+                throw new RuntimeException(throwable);
+            }
+        }
+    }
+
+    private static class BooleanField extends PrimitiveField {
+        private boolean clientVersion;
+
+        private BooleanField(Object source, Field field) {
+            super(source, field, boolean.class);
+        }
+
+        private boolean getCurrentValue() {
+            try {
+                return (boolean) getter.invokeExact();
+            } catch (Throwable throwable) {
+                throw new RuntimeException(throwable);
+            }
+        }
+
+        @Override
+        public boolean hasChanges() {
+            return !clientInitialized || getCurrentValue() != clientVersion;
+        }
+
+        @Override
+        public void write(RegistryFriendlyByteBuf data) {
+            clientVersion = getCurrentValue();
+            clientInitialized = true;
+            data.writeBoolean(clientVersion);
+        }
+
+        @Override
+        public void read(RegistryFriendlyByteBuf data) {
+            boolean value = data.readBoolean();
+            try {
+                setter.invokeExact(value);
+            } catch (Throwable throwable) {
+                throw new RuntimeException(throwable);
+            }
+        }
+    }
+
+    private static class StringField extends ObjectField<String> {
         private StringField(Object source, Field field) {
             super(source, field);
         }
@@ -139,7 +363,7 @@ protected String readValue(RegistryFriendlyByteBuf data) {
         }
     }
 
-    private static class IntegerField extends SynchronizedField<Integer> {
+    private static class IntegerField extends ObjectField<Integer> {
         private IntegerField(Object source, Field field) {
             super(source, field);
         }
@@ -155,8 +379,8 @@ protected Integer readValue(RegistryFriendlyByteBuf data) {
         }
     }
 
-    private static class LongField extends SynchronizedField<Long> {
-        private LongField(Object source, Field field) {
+    private static class BoxedLongField extends ObjectField<Long> {
+        private BoxedLongField(Object source, Field field) {
             super(source, field);
         }
 
@@ -171,24 +395,8 @@ protected Long readValue(RegistryFriendlyByteBuf data) {
         }
     }
 
-    private static class DoubleField extends SynchronizedField<Double> {
-        private DoubleField(Object source, Field field) {
-            super(source, field);
-        }
-
-        @Override
-        protected void writeValue(RegistryFriendlyByteBuf data, Double value) {
-            data.writeDouble(value);
-        }
-
-        @Override
-        protected Double readValue(RegistryFriendlyByteBuf data) {
-            return data.readDouble();
-        }
-    }
-
-    private static class BooleanField extends SynchronizedField<Boolean> {
-        private BooleanField(Object source, Field field) {
+    private static class BoxedBooleanField extends ObjectField<Boolean> {
+        private BoxedBooleanField(Object source, Field field) {
             super(source, field);
         }
 
@@ -203,7 +411,7 @@ protected Boolean readValue(RegistryFriendlyByteBuf data) {
         }
     }
 
-    private static class EnumField<T extends Enum<T>> extends SynchronizedField<T> {
+    private static class EnumField<T extends Enum<T>> extends ObjectField<T> {
         private final T[] values;
 
         private EnumField(Object source, Field field, T[] values) {
@@ -231,7 +439,7 @@ protected T readValue(RegistryFriendlyByteBuf data) {
         }
     }
 
-    private static class TextComponentField extends SynchronizedField<Component> {
+    private static class TextComponentField extends ObjectField<Component> {
         private TextComponentField(Object source, Field field) {
             super(source, field);
         }
@@ -256,7 +464,7 @@ protected Component readValue(RegistryFriendlyByteBuf data) {
         }
     }
 
-    private static class GenericStackField extends SynchronizedField<GenericStack> {
+    private static class GenericStackField extends ObjectField<GenericStack> {
         private GenericStackField(Object source, Field field) {
             super(source, field);
         }
@@ -272,7 +480,7 @@ protected GenericStack readValue(RegistryFriendlyByteBuf data) {
         }
     }
 
-    private static class ResourceLocationField extends SynchronizedField<ResourceLocation> {
+    private static class ResourceLocationField extends ObjectField<ResourceLocation> {
         private ResourceLocationField(Object source, Field field) {
             super(source, field);
         }
@@ -297,7 +505,7 @@ protected ResourceLocation readValue(RegistryFriendlyByteBuf data) {
         }
     }
 
-    private static class CustomField extends SynchronizedField<Object> {
+    private static class CustomField extends ObjectField<Object> {
         private static final Map<Class<?>, Function<RegistryFriendlyByteBuf, Object>> factories = new HashMap<>();
         private final Class<?> fieldType;
 
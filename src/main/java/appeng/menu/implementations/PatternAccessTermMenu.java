@@ -28,6 +28,7 @@
 
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.MenuType;
 import net.minecraft.world.item.ItemStack;
 
@@ -35,6 +36,7 @@
 import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
 
 import appeng.api.config.Settings;
 import appeng.api.config.ShowPatternProviders;
@@ -48,9 +50,11 @@
 import appeng.core.AELog;
 import appeng.core.network.clientbound.ClearPatternAccessTerminalPacket;
 import appeng.core.network.clientbound.PatternAccessTerminalPacket;
+import appeng.core.network.clientbound.RemovePatternAccessTerminalPacket;
 import appeng.core.network.clientbound.SetLinkStatusPacket;
 import appeng.helpers.InventoryAction;
 import appeng.helpers.patternprovider.PatternContainer;
+import appeng.me.service.PatternContainerService;
 import appeng.menu.AEBaseMenu;
 import appeng.menu.guisync.GuiSync;
 import appeng.menu.guisync.LinkStatusAwareMenu;
@@ -83,6 +87,7 @@ public ShowPatternProviders getShownProviders() {
     // We use this serial number to uniquely identify all inventories we send to the client
     // It is used in packets sent by the client to interact with these inventories
     private static long inventorySerial = Long.MIN_VALUE;
+    private static final int GROUP_RECHECKS_PER_TICK = 8;
     private final Map<PatternContainer, ContainerTracker> diList = new IdentityHashMap<>();
     private final Long2ObjectOpenHashMap<ContainerTracker> byId = new Long2ObjectOpenHashMap<>();
     /**
@@ -90,6 +95,26 @@ public ShowPatternProviders getShownProviders() {
      * {@link ShowPatternProviders#NOT_FULL}.
      */
     private final Set<PatternContainer> pinnedHosts = Collections.newSetFromMap(new IdentityHashMap<>());
+    /**
+     * Containers for which the {@link PatternContainerService} reported changes since the last update.
+     */
+    private final Set<PatternContainer> changedContainers = Collections.newSetFromMap(new IdentityHashMap<>());
+    /**
+     * Active containers that do not {@linkplain PatternContainer#notifiesPatternChanges() notify about changes} and
+     * need to be checked for changes on every update.
+     */
+    private final Set<PatternContainer> polledContainers = Collections.newSetFromMap(new IdentityHashMap<>());
+    /**
+     * Shown containers in the order in which their group will be re-checked.
+     */
+    private final ObjectLinkedOpenHashSet<PatternContainer> groupRecheckQueue = new ObjectLinkedOpenHashSet<>();
+    private final ContainerListener containerListener = new ContainerListener();
+    /**
+     * The grid whose {@link PatternContainerService} we're currently listening to.
+     */
+    @Nullable
+    private IGrid listeningGrid;
+    private boolean fullUpdateNeeded = true;
 
     public PatternAccessTermMenu(int id, Inventory ip, IPatternAccessTermMenuHost anchor) {
         this(TYPE, id, ip, anchor, true);
@@ -104,13 +129,13 @@ public PatternAccessTermMenu(MenuType<?> menuType, int id, Inventory ip, IPatter
         }
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public void broadcastChanges() {
         if (isClientSide()) {
             return;
         }
 
+        var previouslyShown = showPatternProviders;
         showPatternProviders = this.host.getConfigManager().getSetting(Settings.TERMINAL_SHOW_PATTERN_PROVIDERS);
 
         super.broadcastChanges();
@@ -122,26 +147,39 @@ public void broadcastChanges() {
         }
 
         IGrid grid = getGrid();
-
-        var state = new VisitorState();
-        if (grid != null) {
-            for (var machineClass : grid.getMachineClasses()) {
-                if (PatternContainer.class.isAssignableFrom(machineClass)) {
-                    visitPatternProviderHosts(grid, (Class<? extends PatternContainer>) machineClass, state);
-                }
-            }
-
-            // Ensure we don't keep references to removed hosts
-            pinnedHosts.removeIf(host -> host.getGrid() != grid);
-        } else {
-            pinnedHosts.clear();
+        if (grid != this.listeningGrid) {
+            listenTo(grid);
+            this.fullUpdateNeeded = true;
+        }
+        if (showPatternProviders != previouslyShown) {
+            this.fullUpdateNeeded = true;
         }
 
-        if (state.total != this.diList.size() || state.forceFullUpdate) {
+        if (this.fullUpdateNeeded) {
+            this.fullUpdateNeeded = false;
             sendFullUpdate(grid);
-        } else {
-            sendIncrementalUpdate();
+        } else if (grid != null) {
+            sendIncrementalUpdate(PatternContainerService.get(grid));
+        }
+    }
+
+    /**
+     * Switches the grid we receive pattern container change notifications from.
+     */
+    private void listenTo(@Nullable IGrid grid) {
+        if (this.listeningGrid != null) {
+            PatternContainerService.get(this.listeningGrid).removeListener(containerListener);
         }
+        this.listeningGrid = grid;
+        if (grid != null) {
+            PatternContainerService.get(grid).addListener(containerListener);
+        }
+    }
+
+    @Override
+    public void removed(Player player) {
+        super.removed(player);
+        listenTo(null);
     }
 
     @Nullable
@@ -157,13 +195,6 @@ public ILinkStatus getLinkStatus() {
         return linkStatus;
     }
 
-    private static class VisitorState {
-        // Total number of pattern provider hosts found
-        int total;
-        // Set to true if any visited machines were missing from diList, or had a different name
-        boolean forceFullUpdate;
-    }
-
     private boolean isFull(PatternContainer logic) {
         for (int i = 0; i < logic.getTerminalPatternInventory().size(); i++) {
             if (logic.getTerminalPatternInventory().getStackInSlot(i).isEmpty()) {
@@ -183,26 +214,6 @@ private boolean isVisible(PatternContainer container) {
         };
     }
 
-    private <T extends PatternContainer> void visitPatternProviderHosts(IGrid grid, Class<T> machineClass,
-            VisitorState state) {
-        for (var container : grid.getActiveMachines(machineClass)) {
-            if (!isVisible(container)) {
-                continue;
-            }
-
-            if (getShownProviders() == ShowPatternProviders.NOT_FULL) {
-                pinnedHosts.add(container);
-            }
-
-            var t = this.diList.get(container);
-            if (t == null || !t.group.equals(container.getTerminalGroup())) {
-                state.forceFullUpdate = true;
-            }
-
-            state.total++;
-        }
-    }
-
     @Override
     public void doAction(ServerPlayer player, InventoryAction action, int slot, long id) {
         final ContainerTracker inv = this.byId.get(id);
@@ -290,43 +301,135 @@ public void doAction(ServerPlayer player, InventoryAction action, int slot, long
     private void sendFullUpdate(@Nullable IGrid grid) {
         this.byId.clear();
         this.diList.clear();
+        this.groupRecheckQueue.clear();
 
         sendPacketToClient(new ClearPatternAccessTerminalPacket());
 
         if (grid == null) {
+            this.pinnedHosts.clear();
+            this.changedContainers.clear();
+            this.polledContainers.clear();
             return;
         }
 
-        for (var machineClass : grid.getMachineClasses()) {
-            var containerClass = tryCastMachineToContainer(machineClass);
-            if (containerClass == null) {
-                continue;
+        // Retrieving the active containers may trigger change notifications, which we no longer care about
+        var activeContainers = PatternContainerService.get(grid).getActiveContainers();
+        this.changedContainers.clear();
+        this.polledContainers.clear();
+
+        for (var container : activeContainers) {
+            if (!container.notifiesPatternChanges()) {
+                this.polledContainers.add(container);
             }
+            if (isVisible(container)) {
+                addTracker(container);
+            }
+        }
+    }
 
-            for (var container : grid.getActiveMachines(containerClass)) {
-                if (isVisible(container)) {
-                    this.diList.put(container, new ContainerTracker(container,
-                            container.getTerminalPatternInventory(),
-                            container.getTerminalGroup()));
+    private void sendIncrementalUpdate(PatternContainerService service) {
+        // Containers that don't notify us about changes have to be checked every time
+        this.changedContainers.addAll(this.polledContainers);
+
+        // Groups can change due to changes in adjacent blocks that don't notify the container. Re-check a few per tick.
+        for (int i = 0; i < GROUP_RECHECKS_PER_TICK && !this.groupRecheckQueue.isEmpty(); i++) {
+            var container = this.groupRecheckQueue.removeFirst();
+            var tracker = this.diList.get(container);
+            if (tracker != null) {
+                if (!tracker.group.equals(container.getTerminalGroup())) {
+                    this.changedContainers.add(container);
                 }
+                this.groupRecheckQueue.add(container);
             }
         }
 
-        for (var inv : this.diList.values()) {
-            this.byId.put(inv.serverId, inv);
-            sendPacketToClient(inv.createFullPacket());
+        if (this.changedContainers.isEmpty()) {
+            return;
+        }
+
+        var activeContainers = service.getActiveContainers();
+        for (var container : this.changedContainers) {
+            updateContainer(container, activeContainers.contains(container));
         }
+        this.changedContainers.clear();
     }
 
-    private void sendIncrementalUpdate() {
-        for (var inv : this.diList.values()) {
-            var packet = inv.createUpdatePacket();
+    private void updateContainer(PatternContainer container, boolean active) {
+        if (!active) {
+            this.pinnedHosts.remove(container);
+        }
+
+        var tracker = this.diList.get(container);
+        boolean shown = active && isVisible(container);
+
+        // Send group changes by removing and re-adding the container on the client
+        if (tracker != null && (!shown || !tracker.group.equals(container.getTerminalGroup()))) {
+            removeTracker(tracker);
+            tracker = null;
+        }
+
+        if (tracker == null) {
+            if (shown) {
+                addTracker(container);
+            }
+        } else {
+            var packet = tracker.createUpdatePacket();
             if (packet != null) {
                 sendPacketToClient(packet);
             }
         }
     }
 
+    private void addTracker(PatternContainer container) {
+        if (getShownProviders() == ShowPatternProviders.NOT_FULL) {
+            this.pinnedHosts.add(container);
+        }
+
+        var tracker = new ContainerTracker(container,
+                container.getTerminalPatternInventory(),
+                container.getTerminalGroup());
+        this.diList.put(container, tracker);
+        this.byId.put(tracker.serverId, tracker);
+        this.groupRecheckQueue.add(container);
+        sendPacketToClient(tracker.createFullPacket());
+    }
+
+    private void removeTracker(ContainerTracker tracker) {
+        this.diList.remove(tracker.container);
+        this.byId.remove(tracker.serverId);
+        this.groupRecheckQueue.remove(tracker.container);
+        sendPacketToClient(new RemovePatternAccessTerminalPacket(tracker.serverId));
+    }
+
+    /**
+     * Collects the containers that need to be re-checked on the next tick.
+     */
+    private class ContainerListener implements PatternContainerService.Listener {
+        @Override
+        public void onContainerAdded(PatternContainer container) {
+            if (!container.notifiesPatternChanges()) {
+                polledContainers.add(container);
+            }
+            changedContainers.add(container);
+        }
+
+        @Override
+        public void onContainerRemoved(PatternContainer container) {
+            polledContainers.remove(container);
+            changedContainers.add(container);
+        }
+
+        @Override
+        public void onPatternsChanged(PatternContainer container) {
+            changedContainers.add(container);
+        }
+
+        @Override
+        public void onGroupChanged(PatternContainer container) {
+            changedContainers.add(container);
+        }
+    }
+
     private static class ContainerTracker {
 
         private final PatternContainer container;
@@ -423,13 +526,6 @@ public boolean allowInsert(InternalInventory inv, int slot, ItemStack stack) {
         }
     }
 
-    private static Class<? extends PatternContainer> tryCastMachineToContainer(Class<?> machineClass) {
-        if (PatternContainer.class.isAssignableFrom(machineClass)) {
-            return machineClass.asSubclass(PatternContainer.class);
-        }
-        return null;
-    }
-
     // When using a custom implementation of ILinkStatus, override this and implement your own packet
     protected void updateLinkStatus() {
         var linkStatus = host.getLinkStatus();
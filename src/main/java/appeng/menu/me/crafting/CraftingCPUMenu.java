@@ -18,7 +18,7 @@
 
 package appeng.menu.me.crafting;
 
-import java.util.function.Consumer;
+import org.jetbrains.annotations.Nullable;
 
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.entity.player.Inventory;
@@ -29,15 +29,12 @@
 import appeng.api.networking.IGrid;
 import appeng.api.networking.crafting.ICraftingCPU;
 import appeng.api.networking.security.IActionHost;
-import appeng.api.stacks.AEKey;
-import appeng.api.stacks.KeyCounter;
 import appeng.blockentity.crafting.CraftingBlockEntity;
 import appeng.core.network.clientbound.CraftingStatusPacket;
 import appeng.me.cluster.implementations.CraftingCPUCluster;
 import appeng.menu.AEBaseMenu;
 import appeng.menu.guisync.GuiSync;
 import appeng.menu.implementations.MenuTypeBuilder;
-import appeng.menu.me.common.IncrementalUpdateHelper;
 
 /**
  * @see appeng.client.gui.me.crafting.CraftingCPUScreen
@@ -58,10 +55,10 @@ public class CraftingCPUMenu extends AEBaseMenu {
             })
             .build("craftingcpu");
 
-    private final IncrementalUpdateHelper incrementalUpdateHelper = new IncrementalUpdateHelper();
     private final IGrid grid;
     private CraftingCPUCluster cpu = null;
-    private final Consumer<AEKey> cpuChangeListener = incrementalUpdateHelper::addChange;
+    @Nullable
+    private CraftingStatusJournal.Viewer statusViewer;
 
     @GuiSync(0)
     public CpuSelectionMode schedulingMode = CpuSelectionMode.ANY;
@@ -94,23 +91,16 @@ protected void setCPU(ICraftingCPU c) {
             return;
         }
 
-        if (this.cpu != null) {
-            this.cpu.craftingLogic.removeListener(cpuChangeListener);
+        if (this.statusViewer != null) {
+            this.statusViewer.close();
+            this.statusViewer = null;
         }
 
-        this.incrementalUpdateHelper.reset();
-
         if (c instanceof CraftingCPUCluster) {
             this.cpu = (CraftingCPUCluster) c;
 
-            // Initially send all items as a full-update to the client when the CPU changes
-            var allItems = new KeyCounter();
-            cpu.craftingLogic.getAllItems(allItems);
-            for (var entry : allItems) {
-                incrementalUpdateHelper.addChange(entry.getKey());
-            }
-
-            this.cpu.craftingLogic.addListener(cpuChangeListener);
+            // The viewer initially receives a full update
+            this.statusViewer = this.cpu.craftingLogic.getStatusJournal().openViewer();
         } else {
             this.cpu = null;
             // Clear the crafting status
@@ -131,8 +121,9 @@ public void cancelCrafting() {
     @Override
     public void removed(Player player) {
         super.removed(player);
-        if (this.cpu != null) {
-            this.cpu.craftingLogic.removeListener(cpuChangeListener);
+        if (this.statusViewer != null) {
+            this.statusViewer.close();
+            this.statusViewer = null;
         }
     }
 
@@ -142,10 +133,8 @@ public void broadcastChanges() {
             this.schedulingMode = this.cpu.getSelectionMode();
             this.cantStoreItems = this.cpu.craftingLogic.isCantStoreItems();
 
-            if (this.incrementalUpdateHelper.hasChanges()) {
-                CraftingStatus status = CraftingStatus.create(this.incrementalUpdateHelper, this.cpu.craftingLogic);
-                this.incrementalUpdateHelper.commitChanges();
-
+            var status = this.statusViewer.poll(registryAccess());
+            if (status != null) {
                 sendPacketToClient(new CraftingStatusPacket(containerId, status));
             }
         }
@@ -18,16 +18,20 @@
 
 package appeng.menu.me.crafting;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
 import com.google.common.collect.ImmutableList;
 
+import org.jetbrains.annotations.Nullable;
+
+import io.netty.buffer.Unpooled;
+
+import net.minecraft.core.RegistryAccess;
 import net.minecraft.network.RegistryFriendlyByteBuf;
 
-import appeng.crafting.execution.CraftingCpuLogic;
 import appeng.crafting.execution.ElapsedTimeTracker;
-import appeng.menu.me.common.IncrementalUpdateHelper;
 
 /**
  * Describes a currently running crafting job. A crafting status can either be a full update which replaces any
@@ -35,6 +39,9 @@
  * {@link CraftingStatusEntry#getSerial() serials} to update entries on the client that were previously sent. To reduce
  * the packet size for updates, the {@link CraftingStatusEntry#getWhat() stack} for entries that were previously sent to
  * the client are set to {@code null}.
+ * <p/>
+ * On the server, statuses are usually created from entries that were already serialized by a
+ * {@link CraftingStatusJournal}, which allows the same serialized entries to be sent to multiple viewers.
  */
 public class CraftingStatus {
 
@@ -63,13 +70,39 @@ public class CraftingStatus {
 
     private final List<CraftingStatusEntry> entries;
 
+    /**
+     * If not null, the entries in their serialized form, as written by {@link CraftingStatusEntry#write}. In this case,
+     * {@link #entries} is empty.
+     */
+    @Nullable
+    private final byte[] encodedEntries;
+
+    private final int encodedEntryCount;
+
     public CraftingStatus(boolean fullStatus, long elapsedTime, long remainingItemCount, long startItemCount,
             List<CraftingStatusEntry> entries) {
+        this(fullStatus, elapsedTime, remainingItemCount, startItemCount, entries, null, 0);
+    }
+
+    private CraftingStatus(boolean fullStatus, long elapsedTime, long remainingItemCount, long startItemCount,
+            List<CraftingStatusEntry> entries, @Nullable byte[] encodedEntries, int encodedEntryCount) {
         this.fullStatus = fullStatus;
         this.elapsedTime = elapsedTime;
         this.remainingItemCount = remainingItemCount;
         this.startItemCount = startItemCount;
         this.entries = ImmutableList.copyOf(entries);
+        this.encodedEntries = encodedEntries;
+        this.encodedEntryCount = encodedEntryCount;
+    }
+
+    /**
+     * Creates a status from entries that have already been serialized using {@link CraftingStatusEntry#write}. Such a
+     * status can only be written to a buffer, its {@link #getEntries() entries} are empty.
+     */
+    public static CraftingStatus ofEncodedEntries(boolean fullStatus, long elapsedTime, long remainingItemCount,
+            long startItemCount, int entryCount, byte[] encodedEntries) {
+        return new CraftingStatus(fullStatus, elapsedTime, remainingItemCount, startItemCount, List.of(),
+                encodedEntries, entryCount);
     }
 
     public boolean isFullStatus() {
@@ -97,7 +130,30 @@ public void write(RegistryFriendlyByteBuf buffer) {
         buffer.writeVarLong(elapsedTime);
         buffer.writeVarLong(remainingItemCount);
         buffer.writeVarLong(startItemCount);
-        CraftingStatusEntry.LIST_STREAM_CODEC.encode(buffer, entries);
+        if (encodedEntries != null) {
+            // Matches the format of LIST_STREAM_CODEC
+            buffer.writeVarInt(encodedEntryCount);
+            buffer.writeBytes(encodedEntries);
+        } else {
+            CraftingStatusEntry.LIST_STREAM_CODEC.encode(buffer, entries);
+        }
+    }
+
+    /**
+     * Packets sent through in-memory connections are not serialized, so statuses created using
+     * {@link #ofEncodedEntries} need to be decoded explicitly before their entries can be used.
+     */
+    public CraftingStatus decodeEntries(RegistryAccess registryAccess) {
+        if (encodedEntries == null) {
+            return this;
+        }
+
+        var buffer = new RegistryFriendlyByteBuf(Unpooled.wrappedBuffer(encodedEntries), registryAccess);
+        var entries = new ArrayList<CraftingStatusEntry>(encodedEntryCount);
+        for (int i = 0; i < encodedEntryCount; i++) {
+            entries.add(CraftingStatusEntry.read(buffer));
+        }
+        return new CraftingStatus(fullStatus, elapsedTime, remainingItemCount, startItemCount, entries);
     }
 
     public static CraftingStatus read(RegistryFriendlyByteBuf buffer) {
@@ -109,45 +165,4 @@ public static CraftingStatus read(RegistryFriendlyByteBuf buffer) {
         return new CraftingStatus(fullStatus, elapsedTime, remainingItemCount, startItemCount, List.copyOf(entries));
     }
 
-    public static CraftingStatus create(IncrementalUpdateHelper changes, CraftingCpuLogic logic) {
-
-        boolean full = changes.isFullUpdate();
-
-        ImmutableList.Builder<CraftingStatusEntry> newEntries = ImmutableList.builder();
-        for (var what : changes) {
-            long storedCount = logic.getStored(what);
-            long activeCount = logic.getWaitingFor(what);
-            long pendingCount = logic.getPendingOutputs(what);
-
-            var sentStack = what;
-            if (!full && changes.getSerial(what) != null) {
-                // The item was already sent to the client, so we can skip the item stack
-                sentStack = null;
-            }
-
-            var entry = new CraftingStatusEntry(
-                    changes.getOrAssignSerial(what),
-                    sentStack,
-                    storedCount,
-                    activeCount,
-                    pendingCount);
-            newEntries.add(entry);
-
-            if (entry.isDeleted()) {
-                changes.removeSerial(what);
-            }
-        }
-
-        long elapsedTime = logic.getElapsedTimeTracker().getElapsedTime();
-        long remainingItems = logic.getElapsedTimeTracker().getRemainingItemCount();
-        long startItems = logic.getElapsedTimeTracker().getStartItemCount();
-
-        return new CraftingStatus(
-                full,
-                elapsedTime,
-                remainingItems,
-                startItems,
-                newEntries.build());
-    }
-
 }
@@ -0,0 +1,267 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2021, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.menu.me.crafting;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.jetbrains.annotations.Nullable;
+
+import io.netty.buffer.Unpooled;
+
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongMaps;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+
+import appeng.api.stacks.AEKey;
+import appeng.api.stacks.KeyCounter;
+import appeng.crafting.execution.CraftingCpuLogic;
+import appeng.hooks.ticking.TickHandler;
+
+/**
+ * Shared by all menus that show the status of the same crafting CPU. Changes reported by the CPU are collected and
+ * serialized once into a journal of frames, which every viewer then receives, instead of each viewer querying and
+ * serializing the same entries.
+ * <p/>
+ * Serials are assigned per CPU and are shared by all viewers. The {@link AEKey} of an entry is only written in the frame
+ * that assigns its serial, and in the full status sent to viewers that join later. Frames are kept until every viewer
+ * has received them.
+ */
+public class CraftingStatusJournal {
+
+    /**
+     * Viewers receive at most one update in this many ticks. Changes in between are merged by sending all frames that
+     * were added in the meantime.
+     */
+    private static final int MIN_TICKS_BETWEEN_UPDATES = 5;
+
+    private final CraftingCpuLogic logic;
+    private final Consumer<AEKey> changeListener = this::addChange;
+    private final Object2LongMap<AEKey> serials = new Object2LongOpenHashMap<>();
+    private final Set<AEKey> pendingChanges = new LinkedHashSet<>();
+    private final List<Frame> frames = new ArrayList<>();
+    private final List<Viewer> viewers = new ArrayList<>();
+    private long nextSerial;
+    /**
+     * The version of the most recent frame.
+     */
+    private long version;
+
+    public CraftingStatusJournal(CraftingCpuLogic logic) {
+        this.logic = logic;
+        this.serials.defaultReturnValue(-1);
+    }
+
+    /**
+     * Starts viewing the status of the CPU. Make sure to {@link Viewer#close() close} the viewer when done.
+     */
+    public Viewer openViewer() {
+        if (viewers.isEmpty()) {
+            // Start tracking the CPU from scratch
+            var allItems = new KeyCounter();
+            logic.getAllItems(allItems);
+            for (var entry : allItems) {
+                pendingChanges.add(entry.getKey());
+            }
+            logic.addListener(changeListener);
+        }
+
+        var viewer = new Viewer();
+        viewers.add(viewer);
+        return viewer;
+    }
+
+    private void closeViewer(Viewer viewer) {
+        viewers.remove(viewer);
+        if (viewers.isEmpty()) {
+            logic.removeListener(changeListener);
+            serials.clear();
+            pendingChanges.clear();
+            frames.clear();
+        } else {
+            trimFrames();
+        }
+    }
+
+    private void addChange(AEKey what) {
+        pendingChanges.add(what);
+    }
+
+    /**
+     * Serializes pending changes into a new frame. The amounts of each changed key are only queried once, regardless of
+     * the number of viewers.
+     */
+    private void flushChanges(RegistryAccess registryAccess) {
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+
+        var buffer = new RegistryFriendlyByteBuf(Unpooled.buffer(), registryAccess);
+        int entryCount = 0;
+        for (var what : pendingChanges) {
+            long serial = serials.getLong(what);
+            boolean newSerial = serial == -1;
+
+            var entry = createEntry(newSerial ? nextSerial + 1 : serial, newSerial ? what : null, what);
+            if (entry.isDeleted()) {
+                if (newSerial) {
+                    // The client never knew about this key
+                    continue;
+                }
+                serials.removeLong(what);
+            } else if (newSerial) {
+                serials.put(what, ++nextSerial);
+            }
+
+            CraftingStatusEntry.write(buffer, entry);
+            entryCount++;
+        }
+        pendingChanges.clear();
+
+        if (entryCount > 0) {
+            frames.add(new Frame(++version, entryCount, toByteArray(buffer)));
+        }
+    }
+
+    private CraftingStatusEntry createEntry(long serial, @Nullable AEKey sentKey, AEKey what) {
+        return new CraftingStatusEntry(
+                serial,
+                sentKey,
+                logic.getStored(what),
+                logic.getWaitingFor(what),
+                logic.getPendingOutputs(what));
+    }
+
+    /**
+     * Drop frames that were received by all viewers.
+     */
+    private void trimFrames() {
+        long oldestVersion = version;
+        for (var viewer : viewers) {
+            if (viewer.version >= 0) {
+                oldestVersion = Math.min(oldestVersion, viewer.version);
+            }
+        }
+
+        int received = 0;
+        while (received < frames.size() && frames.get(received).version <= oldestVersion) {
+            received++;
+        }
+        frames.subList(0, received).clear();
+    }
+
+    private CraftingStatus createStatus(boolean full, int entryCount, byte[] entries) {
+        var timeTracker = logic.getElapsedTimeTracker();
+        return CraftingStatus.ofEncodedEntries(
+                full,
+                timeTracker.getElapsedTime(),
+                timeTracker.getRemainingItemCount(),
+                timeTracker.getStartItemCount(),
+                entryCount,
+                entries);
+    }
+
+    private static byte[] toByteArray(RegistryFriendlyByteBuf buffer) {
+        var result = new byte[buffer.readableBytes()];
+        buffer.readBytes(result);
+        return result;
+    }
+
+    private record Frame(long version, int entryCount, byte[] entries) {
+    }
+
+    public class Viewer {
+        /**
+         * The version of the last frame this viewer received. -1 if it needs a full status.
+         */
+        private long version = -1;
+        private long lastUpdateTick = Long.MIN_VALUE;
+
+        private Viewer() {
+        }
+
+        /**
+         * @return The status update to send to this viewer, or null if nothing needs to be sent right now.
+         */
+        @Nullable
+        public CraftingStatus poll(RegistryAccess registryAccess) {
+            var currentTick = TickHandler.instance().getCurrentTick();
+            if (version >= 0 && currentTick - lastUpdateTick < MIN_TICKS_BETWEEN_UPDATES) {
+                return null;
+            }
+
+            flushChanges(registryAccess);
+
+            CraftingStatus status;
+            if (version < 0) {
+                status = createFullStatus(registryAccess);
+            } else if (version < CraftingStatusJournal.this.version) {
+                status = createIncrementalStatus();
+            } else {
+                return null;
+            }
+
+            version = CraftingStatusJournal.this.version;
+            lastUpdateTick = currentTick;
+            trimFrames();
+            return status;
+        }
+
+        private CraftingStatus createFullStatus(RegistryAccess registryAccess) {
+            var buffer = new RegistryFriendlyByteBuf(Unpooled.buffer(), registryAccess);
+            for (var entry : Object2LongMaps.fastIterable(serials)) {
+                var what = entry.getKey();
+                CraftingStatusEntry.write(buffer, createEntry(entry.getLongValue(), what, what));
+            }
+            return createStatus(true, serials.size(), toByteArray(buffer));
+        }
+
+        private CraftingStatus createIncrementalStatus() {
+            int entryCount = 0;
+            int size = 0;
+            int firstFrame = frames.size();
+            while (firstFrame > 0 && frames.get(firstFrame - 1).version > version) {
+                firstFrame--;
+                entryCount += frames.get(firstFrame).entryCount;
+                size += frames.get(firstFrame).entries.length;
+            }
+
+            // Later entries for the same serial override earlier ones on the client, so frames can simply be
+            // concatenated
+            var entries = new byte[size];
+            int offset = 0;
+            for (int i = firstFrame; i < frames.size(); i++) {
+                var frameEntries = frames.get(i).entries;
+                System.arraycopy(frameEntries, 0, entries, offset, frameEntries.length);
+                offset += frameEntries.length;
+            }
+            return createStatus(false, entryCount, entries);
+        }
+
+        public void close() {
+            closeViewer(this);
+        }
+    }
+}
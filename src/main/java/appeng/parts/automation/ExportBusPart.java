@@ -30,6 +30,9 @@
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.inventory.MenuType;
 
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongMaps;
+
 import appeng.api.behaviors.StackExportStrategy;
 import appeng.api.behaviors.StackTransferContext;
 import appeng.api.config.Actionable;
@@ -37,11 +40,15 @@
 import appeng.api.config.Settings;
 import appeng.api.config.YesNo;
 import appeng.api.networking.IGrid;
+import appeng.api.networking.IStackWatcher;
 import appeng.api.networking.crafting.ICraftingLink;
 import appeng.api.networking.crafting.ICraftingRequester;
 import appeng.api.networking.crafting.ICraftingService;
+import appeng.api.networking.crafting.ICraftingWatcherNode;
 import appeng.api.networking.energy.IEnergyService;
 import appeng.api.networking.storage.IStorageService;
+import appeng.api.networking.storage.IStorageWatcherNode;
+import appeng.api.networking.ticking.TickRateModulation;
 import appeng.api.parts.IPartCollisionHelper;
 import appeng.api.parts.IPartItem;
 import appeng.api.parts.IPartModel;
@@ -80,11 +87,65 @@ public class ExportBusPart extends IOBusPart implements ICraftingRequester {
     private int nextSlot = 0;
     @Nullable
     private StackExportStrategy exportStrategy;
+    @Nullable
+    private IStackWatcher storageWatcher;
+    @Nullable
+    private IStackWatcher craftingWatcher;
+    /**
+     * True while the bus sleeps because none of its configured keys are stored in or craftable by the network. The
+     * configured keys are registered with the watchers to wake the bus up once that changes.
+     */
+    private boolean waitingForSupply;
+
+    private final IStorageWatcherNode storageWatcherNode = new IStorageWatcherNode() {
+        @Override
+        public void updateWatcher(IStackWatcher newWatcher) {
+            storageWatcher = newWatcher;
+            stopWaitingForSupply();
+        }
+
+        @Override
+        public void onStackChange(AEKey what, long amount) {
+            if (amount > 0) {
+                stopWaitingForSupply();
+            }
+        }
+
+        @Override
+        public void onStackChanges(Object2LongMap<AEKey> changes) {
+            // Only called when watching all stacks for a fuzzy filter
+            for (var entry : Object2LongMaps.fastIterable(changes)) {
+                if (entry.getLongValue() > 0 && getFilter().isListed(entry.getKey())) {
+                    stopWaitingForSupply();
+                    return;
+                }
+            }
+        }
+    };
+
+    private final ICraftingWatcherNode craftingWatcherNode = new ICraftingWatcherNode() {
+        @Override
+        public void updateWatcher(IStackWatcher newWatcher) {
+            craftingWatcher = newWatcher;
+            stopWaitingForSupply();
+        }
+
+        @Override
+        public void onRequestChange(AEKey what) {
+        }
+
+        @Override
+        public void onCraftableChange(AEKey what) {
+            stopWaitingForSupply();
+        }
+    };
 
     public ExportBusPart(IPartItem<?> partItem) {
         super(TickRates.ExportBus, StackWorldBehaviors.withExportStrategy(), partItem);
         this.craftingTracker = new MultiCraftingTracker(this, getConfig().size());
         getMainNode().addService(ICraftingRequester.class, this);
+        getMainNode().addService(IStorageWatcherNode.class, storageWatcherNode);
+        getMainNode().addService(ICraftingWatcherNode.class, craftingWatcherNode);
     }
 
     @Override
@@ -120,6 +181,8 @@ protected final StackExportStrategy getExportStrategy() {
 
     @Override
     protected boolean doBusWork(IGrid grid) {
+        clearSupplyWatch();
+
         var storageService = grid.getStorageService();
         var cg = grid.getCraftingService();
         var fzMode = this.getConfigManager().getSetting(Settings.FUZZY_MODE);
@@ -180,6 +243,80 @@ protected boolean doBusWork(IGrid grid) {
         return context.hasDoneWork();
     }
 
+    /**
+     * If none of the configured keys are stored in the network or can be crafted, there's nothing to export until that
+     * changes, so the bus sleeps until the watchers report it. If something is stored, but could not be exported, the
+     * target is most likely full, which we cannot watch for.
+     */
+    @Override
+    protected TickRateModulation getTickRateWithoutWork(IGrid grid) {
+        return sleepUntilSupplied(grid) ? TickRateModulation.SLEEP : TickRateModulation.SLOWER;
+    }
+
+    private boolean sleepUntilSupplied(IGrid grid) {
+        if (storageWatcher == null || craftOnly() || isCraftingEnabled() && craftingWatcher == null) {
+            return false;
+        }
+
+        var cachedInventory = grid.getStorageService().getCachedInventory();
+        var craftingService = grid.getCraftingService();
+        var fuzzy = isUpgradedWith(AEItems.FUZZY_CARD);
+        var fzMode = this.getConfigManager().getSetting(Settings.FUZZY_MODE);
+        for (int x = 0; x < this.availableSlots(); x++) {
+            var what = getConfig().getKey(x);
+            if (what == null) {
+                continue;
+            }
+
+            var stored = fuzzy ? cachedInventory.getFuzzyTotal(what, fzMode) : cachedInventory.get(what);
+            if (stored > 0 || isCraftingEnabled() && craftingService.isCraftable(what)) {
+                return false;
+            }
+        }
+
+        for (int x = 0; x < this.availableSlots(); x++) {
+            var what = getConfig().getKey(x);
+            if (what == null) {
+                continue;
+            }
+
+            if (fuzzy) {
+                storageWatcher.setWatchAll(true);
+            } else {
+                storageWatcher.add(what);
+            }
+            if (isCraftingEnabled()) {
+                craftingWatcher.add(what);
+            }
+        }
+        waitingForSupply = true;
+        return true;
+    }
+
+    @Override
+    protected void onFilterChanged() {
+        stopWaitingForSupply();
+    }
+
+    private void clearSupplyWatch() {
+        if (waitingForSupply) {
+            waitingForSupply = false;
+            if (storageWatcher != null) {
+                storageWatcher.reset();
+            }
+            if (craftingWatcher != null) {
+                craftingWatcher.reset();
+            }
+        }
+    }
+
+    private void stopWaitingForSupply() {
+        if (waitingForSupply) {
+            clearSupplyWatch();
+            getMainNode().ifPresent((grid, node) -> grid.getTickManager().alertDevice(node));
+        }
+    }
+
     private void attemptCrafting(StackTransferContext context, ICraftingService cg, int slotToExport, AEKey what) {
         // don't bother crafting / checking or result, if target cannot accept at least 1 of requested item
         var maxAmount = context.getOperationsRemaining() * what.getAmountPerOperation();
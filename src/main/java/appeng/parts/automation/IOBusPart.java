@@ -115,7 +115,7 @@ public RedstoneMode getRSMode() {
         return this.getConfigManager().getSetting(Settings.REDSTONE_CONTROLLED);
     }
 
-    private boolean isInPulseMode() {
+    protected final boolean isInPulseMode() {
         return getRSMode() == RedstoneMode.SIGNAL_PULSE;
     }
 
@@ -221,11 +221,29 @@ public final TickRateModulation tickingRequest(IGridNode node, int ticksSinceLas
         // We may be back to sleep (i.e. in pulse mode)
         if (isSleeping()) {
             return TickRateModulation.SLEEP;
+        } else if (hasDoneWork) {
+            return TickRateModulation.FASTER;
         } else {
-            return hasDoneWork ? TickRateModulation.FASTER : TickRateModulation.SLOWER;
+            return getTickRateWithoutWork(node.getGrid());
         }
     }
 
+    /**
+     * Called after a tick in which the bus did no work to decide how soon it should try again. Buses that are notified
+     * when work becomes available again can return {@link TickRateModulation#SLEEP}, in which case they are responsible
+     * for waking themselves up.
+     */
+    protected TickRateModulation getTickRateWithoutWork(IGrid grid) {
+        return TickRateModulation.SLOWER;
+    }
+
+    /**
+     * Called when the config, upgrades or settings of the bus have changed, which might change which stacks it can
+     * transfer.
+     */
+    protected void onFilterChanged() {
+    }
+
     /**
      * Checks if the bus can actually do something.
      * <p>
@@ -247,6 +265,7 @@ protected final boolean canDoBusWork() {
 
     private void updateState() {
         filter = null; // rebuild the filter
+        onFilterChanged();
 
         updateRedstoneState();
     }
@@ -255,6 +274,8 @@ private void updateState() {
     protected void onSettingChanged(IConfigManager manager, Setting<?> setting) {
         super.onSettingChanged(manager, setting);
 
+        filter = null; // the fuzzy mode might have changed
+        onFilterChanged();
         updateRedstoneState();
 
         // Ensure we have an up-to-date last redstone state when pulse mode is activated to
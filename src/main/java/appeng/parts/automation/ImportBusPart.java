@@ -18,28 +18,56 @@
 
 package appeng.parts.automation;
 
+import java.util.IdentityHashMap;
+
 import org.jetbrains.annotations.Nullable;
 
+import net.minecraft.core.BlockPos;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.inventory.MenuType;
+import net.minecraft.world.level.BlockGetter;
 
 import appeng.api.behaviors.StackImportStrategy;
 import appeng.api.networking.IGrid;
+import appeng.api.networking.ticking.TickRateModulation;
 import appeng.api.parts.IPartCollisionHelper;
 import appeng.api.parts.IPartItem;
 import appeng.api.parts.IPartModel;
+import appeng.api.stacks.AEKeyType;
+import appeng.api.storage.MEStorage;
 import appeng.api.util.KeyTypeSelection;
 import appeng.api.util.KeyTypeSelectionHost;
 import appeng.core.definitions.AEItems;
 import appeng.core.settings.TickRates;
+import appeng.me.storage.CompositeStorage;
 import appeng.menu.implementations.IOBusMenu;
 
 public class ImportBusPart extends IOBusPart implements KeyTypeSelectionHost {
+    /**
+     * Import attempts that found nothing to import are skipped while the adjacent inventory reports no change, but at
+     * most this many times in a row, since the network might have made room for stacks it refused before. While
+     * skipping, the bus ticks at its slowest rate.
+     */
+    private static final int MAX_SKIPPED_IMPORTS = 4;
+
     @Nullable
     private StackImportStrategy importStrategy;
     private final KeyTypeSelection keyTypeSelection;
+    /**
+     * Detects changes to the adjacent inventory the same way storage buses do. Null if it has not been created yet, or
+     * if the adjacent inventory cannot be monitored.
+     */
+    @Nullable
+    private CompositeStorage sourceMonitor;
+    private boolean sourceMonitorCreated;
+    private boolean lastImportFailed;
+    private int skippedImports;
+    /**
+     * True if the last tick skipped the import because the adjacent inventory had not changed.
+     */
+    private boolean sourceUnchanged;
 
     public ImportBusPart(IPartItem<?> partItem) {
         super(TickRates.ImportBus, StackWorldBehaviors.withImportStrategy(), partItem);
@@ -48,6 +76,7 @@ public ImportBusPart(IPartItem<?> partItem) {
             getHost().markForSave();
             // Reset strategies
             importStrategy = null;
+            resetSourceMonitor();
             // We can potentially wake up now
             getMainNode().ifPresent((grid, node) -> grid.getTickManager().alertDevice(node));
         }, StackWorldBehaviors.hasImportStrategyTypeFilter());
@@ -63,6 +92,20 @@ protected boolean doBusWork(IGrid grid) {
                     keyTypeSelection.enabledPredicate());
         }
 
+        // Only look at the adjacent inventory after an import found nothing to import, imports that succeed don't pay
+        // for the extra scan. A redstone pulse is used up by this tick, so it always gets its import attempt.
+        var sourceScanned = false;
+        if (lastImportFailed && !isInPulseMode() && skippedImports < MAX_SKIPPED_IMPORTS) {
+            sourceScanned = true;
+            sourceUnchanged = !hasSourceChanged();
+            if (sourceUnchanged) {
+                skippedImports++;
+                return false;
+            }
+        }
+        sourceUnchanged = false;
+        skippedImports = 0;
+
         var context = new StackTransferContextImpl(
                 grid.getStorageService(),
                 grid.getEnergyService(),
@@ -73,9 +116,95 @@ protected boolean doBusWork(IGrid grid) {
         context.setInverted(this.isUpgradedWith(AEItems.INVERTER_CARD));
         importStrategy.transfer(context);
 
+        lastImportFailed = !context.hasDoneWork();
+        if (lastImportFailed && !sourceScanned) {
+            // Remember what the failed import saw, so the next tick can tell whether trying again is worth it. If the
+            // source was just scanned, nothing was imported since and the monitor is already up to date.
+            hasSourceChanged();
+        }
         return context.hasDoneWork();
     }
 
+    /**
+     * Compares the adjacent inventory with the contents seen when it was last checked.
+     */
+    private boolean hasSourceChanged() {
+        var monitor = getSourceMonitor();
+        return monitor == null || monitor.onTick() == TickRateModulation.URGENT;
+    }
+
+    /**
+     * If the last import attempt found nothing to import and the adjacent inventory has not changed since, the next
+     * attempt would most likely find nothing either, so check again as late as possible.
+     */
+    @Override
+    protected TickRateModulation getTickRateWithoutWork(IGrid grid) {
+        return sourceUnchanged ? TickRateModulation.IDLE : TickRateModulation.SLOWER;
+    }
+
+    @Nullable
+    private CompositeStorage getSourceMonitor() {
+        if (!sourceMonitorCreated) {
+            sourceMonitorCreated = true;
+            sourceMonitor = createSourceMonitor();
+        }
+        return sourceMonitor;
+    }
+
+    @Nullable
+    private CompositeStorage createSourceMonitor() {
+        var self = this.getHost().getBlockEntity();
+        var fromPos = self.getBlockPos().relative(this.getSide());
+        var fromSide = getSide().getOpposite();
+        var strategies = StackWorldBehaviors.createExternalStorageStrategies((ServerLevel) getLevel(), fromPos,
+                fromSide);
+
+        var enabledTypes = keyTypeSelection.enabledPredicate();
+        var storages = new IdentityHashMap<AEKeyType, MEStorage>(strategies.size());
+        for (var keyType : StackWorldBehaviors.withImportStrategy()) {
+            if (!enabledTypes.test(keyType)) {
+                continue;
+            }
+
+            var strategy = strategies.get(keyType);
+            if (strategy == null) {
+                // Changes to stacks of this type would go unnoticed
+                return null;
+            }
+
+            var wrapper = strategy.createWrapper(true, () -> {
+            });
+            if (wrapper != null) {
+                storages.put(keyType, wrapper);
+            }
+        }
+
+        return new CompositeStorage(storages);
+    }
+
+    private void resetSourceMonitor() {
+        sourceMonitor = null;
+        sourceMonitorCreated = false;
+        lastImportFailed = false;
+        skippedImports = 0;
+        sourceUnchanged = false;
+    }
+
+    @Override
+    protected void onFilterChanged() {
+        lastImportFailed = false;
+        sourceUnchanged = false;
+    }
+
+    @Override
+    public void onNeighborChanged(BlockGetter level, BlockPos pos, BlockPos neighbor) {
+        super.onNeighborChanged(level, pos, neighbor);
+        if (pos.relative(this.getSide()).equals(neighbor)) {
+            // The adjacent inventory might have been replaced
+            resetSourceMonitor();
+        }
+    }
+
     @Override
     protected MenuType<?> getMenuType() {
         return IOBusMenu.IMPORT_TYPE;
@@ -68,7 +68,7 @@ public final long placeInWorld(AEKey what, long amount, Actionable type, boolean
 
         if (level.getBlockState(placePos).canBeReplaced()) {
             if (placeAsEntity) {
-                final var sum = this.countEntitesAround(level, placePos);
+                final var sum = this.countEntitesAround(placePos);
 
                 // Disable spawning once there is a certain amount of entities in an area.
                 if (sum < AEConfig.instance().getFormationPlaneEntityLimit()) {
@@ -76,7 +76,8 @@ public final long placeInWorld(AEKey what, long amount, Actionable type, boolean
 
                     if (type == Actionable.MODULATE) {
                         is.setCount(maxStorage);
-                        spawnItemEntity(level, host, side, is);
+                        var entity = spawnItemEntity(level, host, side, is);
+                        PlaneEntityCounter.get(level).onEntitySpawned(entity);
                     }
                 }
             } else {
@@ -119,7 +120,7 @@ public final long placeInWorld(AEKey what, long amount, Actionable type, boolean
         return 0;
     }
 
-    private static void spawnItemEntity(Level level, BlockEntity te, Direction side, ItemStack is) {
+    private static Entity spawnItemEntity(Level level, BlockEntity te, Direction side, ItemStack is) {
         // The center of the block the plane is located in
         final var centerX = te.getBlockPos().getX() + .5;
         final double centerY = te.getBlockPos().getY();
@@ -167,13 +168,13 @@ private static void spawnItemEntity(Level level, BlockEntity te, Direction side,
         // for cleaning up the entity in that case, so we should always assume our spawning was successful,
         // and consume items...
         level.addFreshEntity(entity);
+        return entity;
     }
 
-    private int countEntitesAround(Level level, BlockPos pos) {
+    private int countEntitesAround(BlockPos pos) {
+        // Planes in the same area share the entity lookups within a tick
         final var t = new AABB(pos).inflate(8);
-        final var list = level.getEntitiesOfClass(Entity.class, t);
-
-        return list.size();
+        return PlaneEntityCounter.get(level).countEntities(level, t);
     }
 
     /**
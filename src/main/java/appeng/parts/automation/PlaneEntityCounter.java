@@ -0,0 +1,134 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2021, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.parts.automation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntitySelector;
+import net.minecraft.world.phys.AABB;
+import net.neoforged.neoforge.event.level.LevelEvent;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+
+import appeng.hooks.ticking.TickHandler;
+
+/**
+ * Counts the entities around formation planes. The entities of a chunk section are looked up at most once per tick and
+ * then shared by all planes in the area, instead of every plane querying the level whenever it tries to spawn an item.
+ * <p/>
+ * The cached entities reference their level, so the counter of a level is dropped when it unloads.
+ */
+public final class PlaneEntityCounter {
+
+    /**
+     * Entities are assigned to sections by their position, but their bounding box can extend into neighboring
+     * sections. Like vanilla, assume that no entity extends further than this from its position.
+     */
+    private static final double MAX_ENTITY_EXTENT = 2.0;
+
+    private static final Map<ServerLevel, PlaneEntityCounter> COUNTERS = new WeakHashMap<>();
+
+    /**
+     * The entities positioned in each section that was looked at during the current tick.
+     */
+    private final Long2ObjectMap<List<Entity>> sections = new Long2ObjectOpenHashMap<>();
+
+    private long currentTick = -1;
+
+    private PlaneEntityCounter() {
+    }
+
+    static PlaneEntityCounter get(ServerLevel level) {
+        return COUNTERS.computeIfAbsent(level, l -> new PlaneEntityCounter());
+    }
+
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel level) {
+            COUNTERS.remove(level);
+        }
+    }
+
+    /**
+     * Counts the entities whose bounding box intersects the given box, which is equivalent to the size of
+     * {@code level.getEntitiesOfClass(Entity.class, box)} at the start of the tick.
+     */
+    int countEntities(ServerLevel level, AABB box) {
+        var tick = TickHandler.instance().getCurrentTick();
+        if (tick != currentTick) {
+            currentTick = tick;
+            sections.clear();
+        }
+
+        int minX = SectionPos.posToSectionCoord(box.minX - MAX_ENTITY_EXTENT);
+        int minY = SectionPos.posToSectionCoord(box.minY - MAX_ENTITY_EXTENT);
+        int minZ = SectionPos.posToSectionCoord(box.minZ - MAX_ENTITY_EXTENT);
+        int maxX = SectionPos.posToSectionCoord(box.maxX + MAX_ENTITY_EXTENT);
+        int maxY = SectionPos.posToSectionCoord(box.maxY + MAX_ENTITY_EXTENT);
+        int maxZ = SectionPos.posToSectionCoord(box.maxZ + MAX_ENTITY_EXTENT);
+
+        int count = 0;
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    for (var entity : getSectionEntities(level, x, y, z)) {
+                        if (!entity.isRemoved() && entity.getBoundingBox().intersects(box)) {
+                            count++;
+                        }
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Makes an entity spawned by a plane visible to planes that count entities later in the same tick.
+     */
+    void onEntitySpawned(Entity entity) {
+        if (currentTick == TickHandler.instance().getCurrentTick()) {
+            var entities = sections.get(SectionPos.asLong(entity.blockPosition()));
+            if (entities != null) {
+                entities.add(entity);
+            }
+        }
+    }
+
+    private List<Entity> getSectionEntities(ServerLevel level, int x, int y, int z) {
+        var sectionKey = SectionPos.asLong(x, y, z);
+        var entities = sections.get(sectionKey);
+        if (entities == null) {
+            var minX = SectionPos.sectionToBlockCoord(x);
+            var minY = SectionPos.sectionToBlockCoord(y);
+            var minZ = SectionPos.sectionToBlockCoord(z);
+            var sectionBox = new AABB(minX, minY, minZ, minX + 16, minY + 16, minZ + 16);
+            entities = new ArrayList<>(level.getEntitiesOfClass(Entity.class, sectionBox,
+                    entity -> EntitySelector.NO_SPECTATORS.test(entity)
+                            && SectionPos.asLong(entity.blockPosition()) == sectionKey));
+            sections.put(sectionKey, entities);
+        }
+        return entities;
+    }
+}
@@ -29,6 +29,8 @@
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.phys.Vec3;
 
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+
 import appeng.api.config.FuzzyMode;
 import appeng.api.config.Settings;
 import appeng.api.config.YesNo;
@@ -96,17 +98,18 @@ public void updateWatcher(IStackWatcher newWatcher) {
 
         @Override
         public void onStackChange(AEKey what, long amount) {
-            if (what.equals(getConfiguredKey()) && !isUpgradedWith(AEItems.FUZZY_CARD)) {
-                lastReportedValue = amount;
-                updateState();
-            } else { // either fuzzy upgrade or null filter
-                // When using a fuzzy upgrade or no filter at all, the level emitter will actively scan the grid
-                // We need to ensure we only do this once per tick in case any stack has changed.
-                long currentTick = TickHandler.instance().getCurrentTick();
-                if (currentTick != lastUpdateTick) {
-                    lastUpdateTick = currentTick;
-                    updateReportingValue(getGridNode().getGrid());
-                }
+            onStoredAmountChanged(what, amount);
+        }
+
+        @Override
+        public void onStackChanges(Object2LongMap<AEKey> changes) {
+            // Only called when watching all stacks, which means a fuzzy card or no filter. In both cases the grid is
+            // scanned anyway, so the changes don't need to be passed on one by one.
+            var configuredKey = getConfiguredKey();
+            if (configuredKey != null && changes.containsKey(configuredKey)) {
+                onStoredAmountChanged(configuredKey, changes.getLong(configuredKey));
+            } else {
+                onStoredAmountChanged(null, 0);
             }
         }
     };
@@ -122,11 +125,34 @@ public void onRequestChange(AEKey what) {
             updateState();
         }
 
+        @Override
+        public void onRequestChanges(Set<AEKey> changed) {
+            updateState();
+        }
+
         @Override
         public void onCraftableChange(AEKey what) {
         }
     };
 
+    /**
+     * @param what The key whose stored amount changed, or null if any of several keys might have changed.
+     */
+    private void onStoredAmountChanged(@Nullable AEKey what, long amount) {
+        if (what != null && what.equals(getConfiguredKey()) && !isUpgradedWith(AEItems.FUZZY_CARD)) {
+            lastReportedValue = amount;
+            updateState();
+        } else { // either fuzzy upgrade or null filter
+            // When using a fuzzy upgrade or no filter at all, the level emitter will actively scan the grid
+            // We need to ensure we only do this once per tick in case any stack has changed.
+            long currentTick = TickHandler.instance().getCurrentTick();
+            if (currentTick != lastUpdateTick) {
+                lastUpdateTick = currentTick;
+                updateReportingValue(getGridNode().getGrid());
+            }
+        }
+    }
+
     public StorageLevelEmitterPart(IPartItem<?> partItem) {
         super(partItem);
 
@@ -204,8 +230,6 @@ && getConfigManager().getSetting(Settings.CRAFT_VIA_REDSTONE) == YesNo.YES) {
 
     @Override
     protected void onReportingValueChanged() {
-        // Since we stop iteration below once lastReportedValue > reportingValue, we must recompute lastReportedValue if
-        // reportingValue is updated.
         getMainNode().ifPresent(this::updateReportingValue);
     }
 
@@ -251,25 +275,10 @@ private void updateReportingValue(IGrid grid) {
         var myStack = getConfiguredKey();
 
         if (myStack == null) {
-            this.lastReportedValue = 0;
-            for (var st : stacks) {
-                this.lastReportedValue += st.getLongValue();
-                if (this.lastReportedValue > this.getReportingValue()) {
-                    // Stop here, we have enough info! This prevents blank emitter spam from causing lots of lag.
-                    break;
-                }
-            }
+            this.lastReportedValue = stacks.getTotal();
         } else if (isUpgradedWith(AEItems.FUZZY_CARD)) {
-            this.lastReportedValue = 0;
             var fzMode = this.getConfigManager().getSetting(Settings.FUZZY_MODE);
-            var fuzzyList = stacks.findFuzzy(myStack, fzMode);
-            for (var st : fuzzyList) {
-                this.lastReportedValue += st.getLongValue();
-                if (this.lastReportedValue > this.getReportingValue()) {
-                    // Stop here, we have enough info!
-                    break;
-                }
-            }
+            this.lastReportedValue = stacks.getFuzzyTotal(myStack, fzMode);
         } else {
             this.lastReportedValue = stacks.get(myStack);
         }
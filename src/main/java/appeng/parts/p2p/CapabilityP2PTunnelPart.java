@@ -18,6 +18,7 @@
 
 package appeng.parts.p2p;
 
+import java.util.List;
 import java.util.Objects;
 
 import net.minecraft.core.Direction;
@@ -36,6 +37,10 @@
     private int accessDepth = 0;
     private final CapabilityGuard capabilityGuard = new CapabilityGuard();
     private final EmptyCapabilityGuard emptyCapabilityGuard = new EmptyCapabilityGuard();
+    /**
+     * Used by inputs to split transfers across the outputs.
+     */
+    protected final P2PFanOut<P> fanOut = new P2PFanOut<>();
     protected T inputHandler;
     protected T outputHandler;
     protected T emptyHandler;
@@ -125,6 +130,8 @@ protected void forwardCapabilityInvalidation() {
             P input = getInput();
 
             if (input != null) {
+                // Our target has changed, so it might accept transfers again
+                input.fanOut.resetBackoff(self());
                 input.getBlockEntity().invalidateCapabilities();
             }
         } else {
@@ -140,5 +147,20 @@ public void onTunnelNetworkChange() {
         // however the capability system should handle this fine.
         // (Not OK for block updates though, thankfully we don't need them anymore!)
         getBlockEntity().invalidateCapabilities();
+        if (!isOutput()) {
+            fanOut.retainOutputs(getOutputs());
+        }
+    }
+
+    /**
+     * @return The amounts transferred from this input to each of its outputs, for debugging.
+     */
+    public List<P2PFanOut.OutputStats<P>> getFanOutStats() {
+        return fanOut.getStats(getOutputs());
+    }
+
+    @SuppressWarnings("unchecked")
+    private P self() {
+        return (P) this;
     }
 }
@@ -58,27 +58,12 @@ public int extractEnergy(int maxExtract, boolean simulate) {
 
         @Override
         public int receiveEnergy(int maxReceive, boolean simulate) {
-            int total = 0;
-
-            final int outputTunnels = FEP2PTunnelPart.this.getOutputs().size();
-
-            if (outputTunnels == 0 | maxReceive == 0) {
-                return 0;
-            }
-
-            final int amountPerOutput = maxReceive / outputTunnels;
-            int overflow = amountPerOutput == 0 ? maxReceive : maxReceive % amountPerOutput;
-
-            for (FEP2PTunnelPart target : FEP2PTunnelPart.this.getOutputs()) {
-                try (CapabilityGuard capabilityGuard = target.getAdjacentCapability()) {
-                    final IEnergyStorage output = capabilityGuard.get();
-                    final int toSend = amountPerOutput + overflow;
-                    final int received = output.receiveEnergy(toSend, simulate);
-
-                    overflow = toSend - received;
-                    total += received;
-                }
-            }
+            final int total = fanOut.distribute(FEP2PTunnelPart.this.getOutputs(), null, maxReceive, simulate,
+                    (target, toSend, simulateTransfer) -> {
+                        try (CapabilityGuard capabilityGuard = target.getAdjacentCapability()) {
+                            return capabilityGuard.get().receiveEnergy(toSend, simulateTransfer);
+                        }
+                    });
 
             if (!simulate) {
                 deductEnergyCost(total, PowerUnit.FE);
@@ -26,6 +26,7 @@
 
 import appeng.api.parts.IPartItem;
 import appeng.api.parts.IPartModel;
+import appeng.api.stacks.AEFluidKey;
 import appeng.api.stacks.AEKeyType;
 import appeng.core.AppEng;
 import appeng.items.parts.PartModels;
@@ -76,31 +77,16 @@ public boolean isFluidValid(int tank, FluidStack stack) {
 
         @Override
         public int fill(FluidStack resource, FluidAction action) {
-            int total = 0;
-
-            final int outputTunnels = FluidP2PTunnelPart.this.getOutputs().size();
-            final int amount = resource.getAmount();
-
-            if (outputTunnels == 0 || amount == 0) {
-                return 0;
-            }
-
-            final int amountPerOutput = amount / outputTunnels;
-            int overflow = amountPerOutput == 0 ? amount : amount % amountPerOutput;
-
-            for (FluidP2PTunnelPart target : FluidP2PTunnelPart.this.getOutputs()) {
-                try (CapabilityGuard capabilityGuard = target.getAdjacentCapability()) {
-                    final IFluidHandler output = capabilityGuard.get();
-                    final int toSend = amountPerOutput + overflow;
-                    final FluidStack fillWithFluidStack = resource.copy();
-                    fillWithFluidStack.setAmount(toSend);
-
-                    final int received = output.fill(fillWithFluidStack, action);
-
-                    overflow = toSend - received;
-                    total += received;
-                }
-            }
+            final int total = fanOut.distribute(FluidP2PTunnelPart.this.getOutputs(), AEFluidKey.of(resource),
+                    resource.getAmount(), action.simulate(), (target, toSend, simulate) -> {
+                        try (CapabilityGuard capabilityGuard = target.getAdjacentCapability()) {
+                            final IFluidHandler output = capabilityGuard.get();
+                            final FluidStack fillWithFluidStack = resource.copy();
+                            fillWithFluidStack.setAmount(toSend);
+
+                            return output.fill(fillWithFluidStack, action);
+                        }
+                    });
 
             if (action == FluidAction.EXECUTE) {
                 deductTransportCost(total, AEKeyType.fluids());
@@ -27,6 +27,7 @@
 
 import appeng.api.parts.IPartItem;
 import appeng.api.parts.IPartModel;
+import appeng.api.stacks.AEItemKey;
 import appeng.api.stacks.AEKeyType;
 import appeng.core.AppEng;
 import appeng.items.parts.PartModels;
@@ -67,40 +68,23 @@ public ItemStack getStackInSlot(int slot) {
 
         @Override
         public ItemStack insertItem(int slot, ItemStack stack, boolean simulate) {
-            int remainder = stack.getCount();
-
-            final int outputTunnels = ItemP2PTunnelPart.this.getOutputs().size();
             final int amount = stack.getCount();
-
-            if (outputTunnels == 0 || amount == 0) {
-                return stack;
-            }
-
-            final int amountPerOutput = amount / outputTunnels;
-            int overflow = amountPerOutput == 0 ? amount : amount % amountPerOutput;
-
-            for (ItemP2PTunnelPart target : ItemP2PTunnelPart.this.getOutputs()) {
-                try (CapabilityGuard capabilityGuard = target.getAdjacentCapability()) {
-                    final IItemHandler output = capabilityGuard.get();
-                    final int toSend = amountPerOutput + overflow;
-
-                    if (toSend <= 0) {
-                        // Both overflow and amountPerOutput are 0, so they will be for further outputs as well.
-                        break;
-                    }
-
-                    // So the documentation says that copying the stack should not be necessary because it is not
-                    // supposed to be stored or modifed by insertItem. However, ItemStackHandler will gladly store
-                    // the stack so we need to do a defensive copy. Forgecord says this is the intended behavior,
-                    // and the documentation is wrong.
-                    ItemStack stackCopy = stack.copy();
-                    stackCopy.setCount(toSend);
-                    final int sent = toSend - ItemHandlerHelper.insertItem(output, stackCopy, simulate).getCount();
-
-                    overflow = toSend - sent;
-                    remainder -= sent;
-                }
-            }
+            final int sent = fanOut.distribute(ItemP2PTunnelPart.this.getOutputs(), AEItemKey.of(stack), amount,
+                    simulate, (target, toSend, simulateTransfer) -> {
+                        try (CapabilityGuard capabilityGuard = target.getAdjacentCapability()) {
+                            final IItemHandler output = capabilityGuard.get();
+
+                            // So the documentation says that copying the stack should not be necessary because it
+                            // is not supposed to be stored or modifed by insertItem. However, ItemStackHandler will
+                            // gladly store the stack so we need to do a defensive copy. Forgecord says this is the
+                            // intended behavior, and the documentation is wrong.
+                            ItemStack stackCopy = stack.copy();
+                            stackCopy.setCount(toSend);
+                            return toSend - ItemHandlerHelper.insertItem(output, stackCopy, simulateTransfer)
+                                    .getCount();
+                        }
+                    });
+            final int remainder = amount - sent;
 
             if (!simulate) {
                 deductTransportCost(amount - remainder, AEKeyType.items());
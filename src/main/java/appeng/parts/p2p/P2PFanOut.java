@@ -0,0 +1,205 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2021, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.parts.p2p;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jetbrains.annotations.Nullable;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+
+import appeng.hooks.ticking.TickHandler;
+
+/**
+ * Splits the transfers received by a P2P input across its outputs.
+ * <p/>
+ * Outputs that did not accept anything are skipped for the rest of the tick, and then for a number of ticks that
+ * doubles with every consecutive refusal, so that full targets (or outputs that loop back into the input, which are
+ * refused by the capability guard) are not offered every transfer again. This is tracked per resource, since a target
+ * might only refuse some items or fluids (i.e. filtered slots or a tank holding a different fluid). Any output
+ * accepting a resource is offered transfers of that resource normally again right away.
+ * <p/>
+ * Since the amount is split evenly and any remainder cascades to the following outputs, the output that is offered
+ * first rotates with every transfer, so that transfers smaller than the number of outputs are spread over all outputs
+ * instead of always ending up in the first one.
+ * <p/>
+ * The amount transferred to each output is counted for debugging.
+ */
+public final class P2PFanOut<P> {
+
+    private static final int MAX_BACKOFF_TICKS = 16;
+    /**
+     * Expired backoffs of an output are dropped once it has this many, so that they don't accumulate for resources that
+     * are never offered again.
+     */
+    private static final int MAX_BACKOFFS_PER_OUTPUT = 16;
+
+    @FunctionalInterface
+    public interface Transfer<P> {
+        /**
+         * @return The amount that the output accepted.
+         */
+        int transfer(P output, int amount, boolean simulate);
+    }
+
+    public record OutputStats<P>(P output, long transferred, long refusals, boolean backedOff) {
+    }
+
+    private final Map<P, OutputState> states = new Reference2ObjectOpenHashMap<>();
+    private int nextStart;
+
+    /**
+     * Splits the given amount across the outputs that are not currently backed off from the given resource.
+     *
+     * @param resource Identifies what is being transferred, or null if all transfers are alike (i.e. energy). Must
+     *                 implement equals and hashCode.
+     * @return The total amount accepted by the outputs.
+     */
+    public int distribute(List<P> outputs, @Nullable Object resource, int amount, boolean simulate,
+            Transfer<P> transfer) {
+        if (outputs.isEmpty() || amount <= 0) {
+            return 0;
+        }
+
+        var currentTick = TickHandler.instance().getCurrentTick();
+        var targets = new ArrayList<P>(outputs.size());
+        for (int i = 0; i < outputs.size(); i++) {
+            var output = outputs.get((nextStart + i) % outputs.size());
+            var state = states.get(output);
+            if (state == null || !state.isBlocked(resource, currentTick)) {
+                targets.add(output);
+            }
+        }
+        if (targets.isEmpty()) {
+            return 0;
+        }
+
+        int amountPerOutput = amount / targets.size();
+        int overflow = amount - amountPerOutput * targets.size();
+        int total = 0;
+        for (var target : targets) {
+            int toSend = amountPerOutput + overflow;
+            if (toSend <= 0) {
+                // Both overflow and amountPerOutput are 0, so they will be for further outputs as well.
+                break;
+            }
+
+            int received = transfer.transfer(target, toSend, simulate);
+            overflow = toSend - received;
+            total += received;
+
+            if (!simulate) {
+                var state = states.computeIfAbsent(target, o -> new OutputState());
+                if (received > 0) {
+                    state.transferred += received;
+                    state.backoffs.remove(resource);
+                } else {
+                    state.refusals++;
+                    state.backOff(resource, currentTick);
+                }
+            }
+        }
+
+        if (!simulate) {
+            nextStart = (nextStart + 1) % outputs.size();
+        }
+
+        return total;
+    }
+
+    /**
+     * Offer transfers of any resource to the given output again right away, i.e. because its target has changed.
+     */
+    public void resetBackoff(P output) {
+        var state = states.get(output);
+        if (state != null) {
+            state.backoffs.clear();
+        }
+    }
+
+    /**
+     * Forget about outputs that are no longer connected.
+     */
+    public void retainOutputs(Collection<P> outputs) {
+        if (outputs.isEmpty()) {
+            states.clear();
+        } else if (!states.isEmpty()) {
+            var connected = new ReferenceOpenHashSet<>(outputs);
+            states.keySet().removeIf(output -> !connected.contains(output));
+        }
+    }
+
+    public List<OutputStats<P>> getStats(List<P> outputs) {
+        var currentTick = TickHandler.instance().getCurrentTick();
+        var result = new ArrayList<OutputStats<P>>(outputs.size());
+        for (var output : outputs) {
+            var state = states.get(output);
+            if (state == null) {
+                result.add(new OutputStats<>(output, 0, 0, false));
+            } else {
+                result.add(new OutputStats<>(output, state.transferred, state.refusals,
+                        state.isAnyBlocked(currentTick)));
+            }
+        }
+        return result;
+    }
+
+    private static class OutputState {
+        long transferred;
+        long refusals;
+        final Map<Object, Backoff> backoffs = new HashMap<>();
+
+        boolean isBlocked(@Nullable Object resource, long currentTick) {
+            var backoff = backoffs.get(resource);
+            return backoff != null && backoff.blockedUntil > currentTick;
+        }
+
+        boolean isAnyBlocked(long currentTick) {
+            for (var backoff : backoffs.values()) {
+                if (backoff.blockedUntil > currentTick) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void backOff(@Nullable Object resource, long currentTick) {
+            var backoff = backoffs.get(resource);
+            if (backoff == null) {
+                if (backoffs.size() >= MAX_BACKOFFS_PER_OUTPUT) {
+                    backoffs.values().removeIf(b -> b.blockedUntil <= currentTick);
+                }
+                backoff = new Backoff();
+                backoffs.put(resource, backoff);
+            }
+            backoff.ticks = backoff.ticks == 0 ? 1 : Math.min(MAX_BACKOFF_TICKS, backoff.ticks * 2);
+            backoff.blockedUntil = currentTick + backoff.ticks;
+        }
+    }
+
+    private static class Backoff {
+        int ticks;
+        long blockedUntil;
+    }
+}
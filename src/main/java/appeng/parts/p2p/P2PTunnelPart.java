@@ -86,18 +86,23 @@ public T getInput() {
         return null;
     }
 
+    /**
+     * @return The outputs connected to this tunnel. The list is unmodifiable and does not change when the outputs
+     *         change.
+     */
+    @SuppressWarnings("unchecked")
     public List<T> getOutputs() {
-        return getOutputStream().toList();
-    }
-
-    public Stream<T> getOutputStream() {
         if (this.getMainNode().isOnline()) {
             var grid = getMainNode().getGrid();
             if (grid != null) {
-                return P2PService.get(grid).getOutputs(this.getFrequency(), this.getClass());
+                return P2PService.get(grid).getOutputList(this.getFrequency(), (Class<T>) this.getClass());
             }
         }
-        return Stream.empty();
+        return List.of();
+    }
+
+    public Stream<T> getOutputStream() {
+        return getOutputs().stream();
     }
 
     @Override
@@ -24,6 +24,7 @@
 import appeng.server.subcommands.ChannelModeCommand;
 import appeng.server.subcommands.ChunkLogger;
 import appeng.server.subcommands.GridsCommand;
+import appeng.server.subcommands.LoadTestCommand;
 import appeng.server.subcommands.SetupTestWorldCommand;
 import appeng.server.subcommands.SpatialStorageCommand;
 import appeng.server.subcommands.TestMeteoritesCommand;
@@ -40,7 +41,8 @@ public enum Commands {
     // Testing
     COMPASS(4, "compass", new TestCompassCommand(), true),
     TEST_METEORITES(4, "testmeteorites", new TestMeteoritesCommand(), true),
-    SETUP_TEST_WORLD(4, "setuptestworld", new SetupTestWorldCommand(), true);
+    SETUP_TEST_WORLD(4, "setuptestworld", new SetupTestWorldCommand(), true),
+    LOAD_TEST(4, "loadtest", new LoadTestCommand(), true);
 
     public final int level;
     public final ISubCommand command;
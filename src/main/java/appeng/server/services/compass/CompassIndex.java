@@ -0,0 +1,362 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2021, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.server.services.compass;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.BitSet;
+import java.util.regex.Pattern;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.core.HolderLookup;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.LongArrayTag;
+import net.minecraft.nbt.NbtAccounter;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.nbt.Tag;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.dimension.DimensionType;
+import net.minecraft.world.level.saveddata.SavedData;
+import net.minecraft.world.level.storage.LevelResource;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+
+import appeng.core.AELog;
+import appeng.core.worlddata.AESavedData;
+
+/**
+ * Sparse index of the chunk sections in a level that contain compass targets (meteorites).
+ * <p/>
+ * Meteorites are rare, so only the chunks that contain them are stored, each with the set of section indices (see
+ * {@code ChunkAccess.getSections()}) that contain a target. For nearest neighbor queries, the chunks are additionally
+ * grouped into coarse square tiles, and only the tiles that are occupied are stored. A query looks at tiles in rings of
+ * increasing distance around the origin, and stops as soon as no closer chunk can be found in the next ring.
+ */
+final class CompassIndex extends AESavedData {
+
+    private static final String NAME = "ae2_compass";
+
+    /**
+     * Tiles are 32 chunks wide.
+     */
+    private static final int TILE_SHIFT = 5;
+    private static final int TILE_SIZE = 1 << TILE_SHIFT;
+
+    /**
+     * The save data used before this index was introduced. It used dense bitmaps for 1024x1024 chunk regions.
+     */
+    private static final Pattern LEGACY_REGION_FILE = Pattern.compile("ae2_compass_(-?\\d+)_(-?\\d+)\\.dat");
+    private static final int LEGACY_CHUNKS_PER_REGION = 1024;
+
+    /**
+     * Key is {@link ChunkPos#toLong()}, the bits are the indices of sections containing a compass target.
+     */
+    private final Long2ObjectMap<BitSet> chunks = new Long2ObjectOpenHashMap<>();
+    /**
+     * Key is the tile position, packed like a chunk position, value are the chunk positions in {@link #chunks} that
+     * fall into the tile.
+     */
+    private final Long2ObjectMap<LongSet> tiles = new Long2ObjectOpenHashMap<>();
+
+    CompassIndex() {
+    }
+
+    /**
+     * Retrieve the compass index for the given level, migrating the compass regions saved by previous versions if
+     * necessary.
+     */
+    public static CompassIndex get(ServerLevel level) {
+        return level.getDataStorage().computeIfAbsent(
+                new SavedData.Factory<>(
+                        () -> migrateLegacyRegions(level),
+                        CompassIndex::load,
+                        null),
+                NAME);
+    }
+
+    public static CompassIndex load(CompoundTag tag, HolderLookup.Provider registries) {
+        var result = new CompassIndex();
+        var chunkPositions = tag.getLongArray("chunks");
+        var sections = tag.getList("sections", Tag.TAG_LONG_ARRAY);
+        if (chunkPositions.length != sections.size()) {
+            AELog.warn("Compass index contains %d chunks, but %d section sets", chunkPositions.length,
+                    sections.size());
+        }
+        for (int i = 0; i < Math.min(chunkPositions.length, sections.size()); i++) {
+            var chunkSections = BitSet.valueOf(((LongArrayTag) sections.get(i)).getAsLongArray());
+            if (!chunkSections.isEmpty()) {
+                result.addChunk(chunkPositions[i], chunkSections);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public CompoundTag save(CompoundTag tag, HolderLookup.Provider registries) {
+        var chunkPositions = new long[chunks.size()];
+        var sections = new ListTag();
+        int i = 0;
+        for (var entry : Long2ObjectMaps.fastIterable(chunks)) {
+            chunkPositions[i++] = entry.getLongKey();
+            sections.add(new LongArrayTag(entry.getValue().toLongArray()));
+        }
+        tag.putLongArray("chunks", chunkPositions);
+        tag.put("sections", sections);
+        return tag;
+    }
+
+    boolean hasCompassTarget(int cx, int cz) {
+        return chunks.containsKey(ChunkPos.asLong(cx, cz));
+    }
+
+    boolean hasCompassTarget(int cx, int cz, int sectionIndex) {
+        var chunkSections = chunks.get(ChunkPos.asLong(cx, cz));
+        return chunkSections != null && chunkSections.get(sectionIndex);
+    }
+
+    void setHasCompassTarget(int cx, int cz, int sectionIndex, boolean hasTarget) {
+        var chunkPos = ChunkPos.asLong(cx, cz);
+        var chunkSections = chunks.get(chunkPos);
+        if (hasTarget) {
+            if (chunkSections == null) {
+                chunkSections = new BitSet();
+                chunkSections.set(sectionIndex);
+                addChunk(chunkPos, chunkSections);
+                setDirty();
+            } else if (!chunkSections.get(sectionIndex)) {
+                chunkSections.set(sectionIndex);
+                setDirty();
+            }
+        } else if (chunkSections != null && chunkSections.get(sectionIndex)) {
+            chunkSections.clear(sectionIndex);
+            if (chunkSections.isEmpty()) {
+                removeChunk(chunkPos);
+            }
+            setDirty();
+        }
+    }
+
+    /**
+     * Finds the chunk with a compass target that is closest to the given chunk. Only chunks that are less than
+     * {@code maxRange} chunks away on both axes are considered.
+     */
+    @Nullable
+    ChunkPos findClosest(int cx, int cz, int maxRange) {
+        if (chunks.isEmpty()) {
+            return null;
+        }
+
+        var search = new Search(cx, cz, maxRange);
+        var tileX = cx >> TILE_SHIFT;
+        var tileZ = cz >> TILE_SHIFT;
+        // The number of tile rings around the origin tile that can contain chunks in range
+        var maxRing = (maxRange + TILE_SIZE - 1) >> TILE_SHIFT;
+
+        var tilesInRange = (long) (2 * maxRing + 1) * (2 * maxRing + 1);
+        if (tilesInRange >= tiles.size()) {
+            // Fewer tiles are occupied than we would have to probe
+            for (var tile : tiles.values()) {
+                search.visit(tile);
+            }
+            return search.getResult();
+        }
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            if (ring == 0) {
+                search.visit(tiles.get(ChunkPos.asLong(tileX, tileZ)));
+            } else {
+                for (int z = tileZ - ring; z <= tileZ + ring; z++) {
+                    search.visit(tiles.get(ChunkPos.asLong(tileX - ring, z)));
+                    search.visit(tiles.get(ChunkPos.asLong(tileX + ring, z)));
+                }
+                for (int x = tileX - ring + 1; x < tileX + ring; x++) {
+                    search.visit(tiles.get(ChunkPos.asLong(x, tileZ - ring)));
+                    search.visit(tiles.get(ChunkPos.asLong(x, tileZ + ring)));
+                }
+            }
+
+            // Chunks in the next ring of tiles are more than ring * TILE_SIZE chunks away on at least one axis
+            var minNextDistance = (long) ring * TILE_SIZE;
+            if (search.closestDistanceSq <= minNextDistance * minNextDistance) {
+                break;
+            }
+        }
+
+        return search.getResult();
+    }
+
+    private void addChunk(long chunkPos, BitSet chunkSections) {
+        chunks.put(chunkPos, chunkSections);
+        tiles.computeIfAbsent(getTileKey(chunkPos), key -> new LongOpenHashSet()).add(chunkPos);
+    }
+
+    private void removeChunk(long chunkPos) {
+        chunks.remove(chunkPos);
+        var tileKey = getTileKey(chunkPos);
+        var tile = tiles.get(tileKey);
+        if (tile != null) {
+            tile.remove(chunkPos);
+            if (tile.isEmpty()) {
+                tiles.remove(tileKey);
+            }
+        }
+    }
+
+    private static long getTileKey(long chunkPos) {
+        return ChunkPos.asLong(ChunkPos.getX(chunkPos) >> TILE_SHIFT, ChunkPos.getZ(chunkPos) >> TILE_SHIFT);
+    }
+
+    private static class Search {
+        private final int originX;
+        private final int originZ;
+        private final int maxRange;
+        private long closestDistanceSq = Long.MAX_VALUE;
+        private long closest;
+
+        Search(int originX, int originZ, int maxRange) {
+            this.originX = originX;
+            this.originZ = originZ;
+            this.maxRange = maxRange;
+        }
+
+        void visit(@Nullable LongSet tile) {
+            if (tile == null) {
+                return;
+            }
+
+            var it = tile.iterator();
+            while (it.hasNext()) {
+                var chunkPos = it.nextLong();
+                long dx = ChunkPos.getX(chunkPos) - originX;
+                long dz = ChunkPos.getZ(chunkPos) - originZ;
+                if (Math.abs(dx) >= maxRange || Math.abs(dz) >= maxRange) {
+                    continue;
+                }
+                var distanceSq = dx * dx + dz * dz;
+                if (distanceSq < closestDistanceSq) {
+                    closestDistanceSq = distanceSq;
+                    closest = chunkPos;
+                }
+            }
+        }
+
+        @Nullable
+        ChunkPos getResult() {
+            return closestDistanceSq == Long.MAX_VALUE ? null : new ChunkPos(closest);
+        }
+    }
+
+    /**
+     * Creates the index for a level that does not have one yet, importing the compass regions that were saved by
+     * previous versions. The old files are left in place.
+     */
+    private static CompassIndex migrateLegacyRegions(ServerLevel level) {
+        var result = new CompassIndex();
+
+        var dataFolder = DimensionType.getStorageFolder(level.dimension(),
+                level.getServer().getWorldPath(LevelResource.ROOT)).resolve("data");
+        if (!Files.isDirectory(dataFolder)) {
+            return result;
+        }
+
+        int migratedRegions = 0;
+        try (var files = Files.newDirectoryStream(dataFolder, "ae2_compass_*.dat")) {
+            for (var file : files) {
+                var matcher = LEGACY_REGION_FILE.matcher(file.getFileName().toString());
+                if (!matcher.matches()) {
+                    continue;
+                }
+
+                try {
+                    var regionX = Integer.parseInt(matcher.group(1));
+                    var regionZ = Integer.parseInt(matcher.group(2));
+                    var tag = NbtIo.readCompressed(file, NbtAccounter.unlimitedHeap());
+                    result.importLegacyRegion(regionX, regionZ, tag.getCompound("data"));
+                    migratedRegions++;
+                } catch (IOException | NumberFormatException e) {
+                    AELog.warn("Failed to migrate compass region %s: %s", file, e);
+                }
+            }
+        } catch (IOException e) {
+            AELog.warn("Failed to list compass regions in %s: %s", dataFolder, e);
+        }
+
+        if (migratedRegions > 0) {
+            AELog.info("Migrated %d compass regions with %d meteorite chunks in %s", migratedRegions,
+                    result.chunks.size(), level.dimension().location());
+            result.setDirty();
+        }
+        return result;
+    }
+
+    /**
+     * Imports a region saved by previous versions, which stored one bitmap of chunks per section index.
+     */
+    void importLegacyRegion(int regionX, int regionZ, CompoundTag tag) {
+        for (var key : tag.getAllKeys()) {
+            if (!key.startsWith("section")) {
+                continue;
+            }
+
+            int sectionIndex;
+            try {
+                sectionIndex = Integer.parseInt(key.substring("section".length()));
+            } catch (NumberFormatException e) {
+                AELog.warn("Compass region contains invalid NBT tag %s", key);
+                continue;
+            }
+
+            var bitmap = BitSet.valueOf(tag.getByteArray(key));
+            for (int i = bitmap.nextSetBit(0); i >= 0; i = bitmap.nextSetBit(i + 1)) {
+                var localX = i & (LEGACY_CHUNKS_PER_REGION - 1);
+                var localZ = i / LEGACY_CHUNKS_PER_REGION;
+                for (var cx : getLegacyChunkCoords(regionX, localX)) {
+                    for (var cz : getLegacyChunkCoords(regionZ, localZ)) {
+                        setHasCompassTarget(cx, cz, sectionIndex, true);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Legacy regions were selected by dividing the chunk coordinate by the region size, which rounds towards zero,
+     * while the position in the region was the coordinate modulo the region size. Region 0 thus covered both positive
+     * and negative chunk coordinates with the same bits, and since it is ambiguous which one was meant, both are
+     * imported, just like the old index reported both.
+     */
+    private static int[] getLegacyChunkCoords(int region, int local) {
+        if (region > 0) {
+            return new int[] { region * LEGACY_CHUNKS_PER_REGION + local };
+        } else if (local == 0) {
+            return new int[] { region * LEGACY_CHUNKS_PER_REGION };
+        } else if (region < 0) {
+            return new int[] { (region - 1) * LEGACY_CHUNKS_PER_REGION + local };
+        } else {
+            return new int[] { local, local - LEGACY_CHUNKS_PER_REGION };
+        }
+    }
+}
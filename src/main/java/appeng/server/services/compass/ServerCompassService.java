@@ -42,7 +42,6 @@ public final class ServerCompassService {
      * Maximum distance to search in chunks.
      */
     private static final int MAX_RANGE = 174;
-    private static final int CHUNK_SIZE = 16;
 
     private record Query(ServerLevel level, ChunkPos chunk) {
     }
@@ -95,80 +94,28 @@ private static BlockPos findClosestMeteoritePos(ServerLevel level, ChunkPos orig
 
     @Nullable
     private static ChunkPos findClosestMeteoriteChunk(ServerLevel level, ChunkPos chunkPos) {
-        var cr = CompassRegion.get(level, chunkPos);
-        var cx = chunkPos.x;
-        var cz = chunkPos.z;
-
-        // Am I standing on it?
-        if (cr.hasCompassTarget(cx, cz)) {
-            return chunkPos;
-        }
-
-        // spiral outward...
-        for (int offset = 1; offset < MAX_RANGE; offset++) {
-            final int minX = cx - offset;
-            final int minZ = cz - offset;
-            final int maxX = cx + offset;
-            final int maxZ = cz + offset;
-
-            int closest = Integer.MAX_VALUE;
-            int chosen_x = cx;
-            int chosen_z = cz;
-
-            for (int z = minZ; z <= maxZ; z++) {
-                if (cr.hasCompassTarget(minX, z)) {
-                    final int closeness = dist(cx, cz, minX, z);
-                    if (closeness < closest) {
-                        closest = closeness;
-                        chosen_x = minX;
-                        chosen_z = z;
-                    }
-                }
-
-                if (cr.hasCompassTarget(maxX, z)) {
-                    final int closeness = dist(cx, cz, maxX, z);
-                    if (closeness < closest) {
-                        closest = closeness;
-                        chosen_x = maxX;
-                        chosen_z = z;
-                    }
-                }
-            }
-
-            for (int x = minX + 1; x < maxX; x++) {
-                if (cr.hasCompassTarget(x, minZ)) {
-                    final int closeness = dist(cx, cz, x, minZ);
-                    if (closeness < closest) {
-                        closest = closeness;
-                        chosen_x = x;
-                        chosen_z = minZ;
-                    }
-                }
+        return CompassIndex.get(level).findClosest(chunkPos.x, chunkPos.z, MAX_RANGE);
+    }
 
-                if (cr.hasCompassTarget(x, maxZ)) {
-                    final int closeness = dist(cx, cz, x, maxZ);
-                    if (closeness < closest) {
-                        closest = closeness;
-                        chosen_x = x;
-                        chosen_z = maxZ;
-                    }
-                }
-            }
+    public static void updateArea(ServerLevel level, ChunkAccess chunk) {
+        var compassIndex = CompassIndex.get(level);
 
-            if (closest < Integer.MAX_VALUE) {
-                return new ChunkPos(chosen_x, chosen_z);
-            }
+        for (var i = 0; i < level.getSectionsCount(); i++) {
+            updateArea(compassIndex, chunk, i);
         }
-
-        // didn't find shit...
-        return null;
     }
 
-    public static void updateArea(ServerLevel level, ChunkAccess chunk) {
-        var compassRegion = CompassRegion.get(level, chunk.getPos());
+    /**
+     * Same as {@link #updateArea(ServerLevel, ChunkAccess)}, but only updates the sections of the chunk that intersect
+     * the given range of y-coordinates, because nothing else in the chunk was changed.
+     */
+    public static void updateArea(ServerLevel level, ChunkAccess chunk, int minY, int maxY) {
+        var compassIndex = CompassIndex.get(level);
 
-        for (var i = 0; i < level.getSectionsCount(); i++) {
-            updateArea(compassRegion, chunk, i);
+        var minSection = Math.max(0, level.getSectionIndex(minY));
+        var maxSection = Math.min(level.getSectionsCount() - 1, level.getSectionIndex(maxY));
+        for (var i = minSection; i <= maxSection; i++) {
+            updateArea(compassIndex, chunk, i);
         }
     }
 
@@ -177,36 +124,31 @@ public static void updateArea(ServerLevel level, ChunkAccess chunk) {
      */
     public static void notifyBlockChange(ServerLevel level, BlockPos pos) {
         ChunkAccess chunk = level.getChunk(pos);
-        var compassRegion = CompassRegion.get(level, chunk.getPos());
-        updateArea(compassRegion, chunk, level.getSectionIndex(pos.getY()));
+        var compassIndex = CompassIndex.get(level);
+        updateArea(compassIndex, chunk, level.getSectionIndex(pos.getY()));
     }
 
-    private static void updateArea(CompassRegion compassRegion, ChunkAccess chunk, int sectionIndex) {
+    private static void updateArea(CompassIndex compassIndex, ChunkAccess chunk, int sectionIndex) {
         int cx = chunk.getPos().x;
         int cz = chunk.getPos().z;
 
         var section = chunk.getSections()[sectionIndex];
-        if (section.hasOnlyAir()) {
-            compassRegion.setHasCompassTarget(cx, cz, sectionIndex, false);
+        var desiredState = AEBlocks.MYSTERIOUS_CUBE.block().defaultBlockState();
+        // The palette of the section might still contain states that are no longer used, but if it does not contain
+        // the desired state, there's no need to look at the individual blocks
+        if (section.hasOnlyAir() || !section.maybeHas(state -> state == desiredState)) {
+            compassIndex.setHasCompassTarget(cx, cz, sectionIndex, false);
             return;
         }
 
         // Count how many skystone blocks there are
-        var desiredState = AEBlocks.MYSTERIOUS_CUBE.block().defaultBlockState();
         var blockCount = new AtomicInteger(0);
         section.getStates().count((state, count) -> {
             if (state == desiredState) {
                 blockCount.getAndIncrement();
             }
         });
-        compassRegion.setHasCompassTarget(cx, cz, sectionIndex, blockCount.get() > 0);
-    }
-
-    private static int dist(int ax, int az, int bx, int bz) {
-        final int up = (bz - az) * CHUNK_SIZE;
-        final int side = (bx - ax) * CHUNK_SIZE;
-
-        return up * up + side * side;
+        compassIndex.setHasCompassTarget(cx, cz, sectionIndex, blockCount.get() > 0);
     }
 
 }
@@ -34,10 +34,10 @@ public class TestCompassCommand implements ISubCommand {
     public void call(MinecraftServer srv, CommandContext<CommandSourceStack> ctx, CommandSourceStack sender) {
         var level = sender.getLevel();
         var chunkPos = new ChunkPos(BlockPos.containing(sender.getPosition()));
-        var compassRegion = CompassRegion.get(level, chunkPos);
+        var compassIndex = CompassIndex.get(level);
 
         for (var i = 0; i <= level.getSectionsCount(); i++) {
-            var hasSkyStone = compassRegion.hasCompassTarget(chunkPos.x, chunkPos.z, i);
+            var hasSkyStone = compassIndex.hasCompassTarget(chunkPos.x, chunkPos.z, i);
             var yMin = i * SectionPos.SECTION_SIZE;
             var yMax = (i + 1) * SectionPos.SECTION_SIZE - 1;
             var iFinal = i;
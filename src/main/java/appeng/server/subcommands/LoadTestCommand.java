@@ -0,0 +1,233 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2021, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.server.subcommands;
+
+import static net.minecraft.commands.Commands.argument;
+import static net.minecraft.commands.Commands.literal;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.google.common.base.Stopwatch;
+import com.google.gson.stream.JsonWriter;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+
+import appeng.api.networking.GridHelper;
+import appeng.me.Grid;
+import appeng.me.GridServiceTimings;
+import appeng.server.ISubCommand;
+import appeng.server.testplots.LoadTestScenario;
+import appeng.util.JsonStreamUtil;
+
+/**
+ * Builds a large synthetic network and records how long its grid services take to tick, so that performance changes
+ * can be measured on a headless dedicated server:
+ * <ul>
+ * <li>{@code /ae2 loadtest build <drives> <patternProviders> <craftingCpus> <busPairs> <storageFill> [branchLength]}
+ * builds a {@link LoadTestScenario} at the position of the command source and keeps its chunks loaded.</li>
+ * <li>{@code /ae2 loadtest record <ticks>} records the tick times of the services of the last built network and writes
+ * them to a JSON report in the server directory.</li>
+ * </ul>
+ */
+public class LoadTestCommand implements ISubCommand {
+    private static final Logger LOG = LoggerFactory.getLogger(LoadTestCommand.class);
+
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
+
+    /**
+     * Only the dimension is stored, so that the last built scenario doesn't keep its level alive after it was unloaded.
+     */
+    private record BuiltScenario(LoadTestScenario scenario, ResourceKey<Level> dimension, BlockPos origin) {
+    }
+
+    @Nullable
+    private static BuiltScenario lastBuilt;
+
+    @Override
+    public void addArguments(LiteralArgumentBuilder<CommandSourceStack> builder) {
+        var branchLength = argument("branchLength", IntegerArgumentType.integer(1, 256)).executes(ctx -> {
+            build(ctx, IntegerArgumentType.getInteger(ctx, "branchLength"));
+            return 1;
+        });
+        var storageFill = argument("storageFill", IntegerArgumentType.integer(0, 100)).executes(ctx -> {
+            build(ctx, LoadTestScenario.DEFAULT_BRANCH_LENGTH);
+            return 1;
+        }).then(branchLength);
+
+        builder.then(literal("build")
+                .then(argument("drives", IntegerArgumentType.integer(0))
+                        .then(argument("patternProviders", IntegerArgumentType.integer(0))
+                                .then(argument("craftingCpus", IntegerArgumentType.integer(0))
+                                        .then(argument("busPairs", IntegerArgumentType.integer(0))
+                                                .then(storageFill))))));
+        builder.then(literal("record")
+                .then(argument("ticks", IntegerArgumentType.integer(1)).executes(ctx -> {
+                    record(ctx.getSource(), IntegerArgumentType.getInteger(ctx, "ticks"));
+                    return 1;
+                })));
+    }
+
+    @Override
+    public void call(MinecraftServer srv, CommandContext<CommandSourceStack> ctx, CommandSourceStack sender) {
+        sender.sendFailure(Component.literal("Use /ae2 loadtest build or /ae2 loadtest record"));
+    }
+
+    private static void build(CommandContext<CommandSourceStack> ctx, int branchLength) {
+        var source = ctx.getSource();
+        var scenario = new LoadTestScenario(
+                IntegerArgumentType.getInteger(ctx, "drives"),
+                IntegerArgumentType.getInteger(ctx, "patternProviders"),
+                IntegerArgumentType.getInteger(ctx, "craftingCpus"),
+                IntegerArgumentType.getInteger(ctx, "busPairs"),
+                IntegerArgumentType.getInteger(ctx, "storageFill"),
+                branchLength);
+
+        var sw = Stopwatch.createStarted();
+        try {
+            var plot = scenario.createPlot();
+            var level = source.getLevel();
+            // The plot extends one block above and below the origin
+            var origin = BlockPos.containing(source.getPosition());
+            origin = origin.atY(Math.clamp(origin.getY(), level.getMinBuildHeight() + 1,
+                    level.getMaxBuildHeight() - 2));
+
+            // Keep the whole network loaded and ticking regardless of where players are
+            var bounds = plot.getBounds().moved(origin.getX(), origin.getY(), origin.getZ());
+            var minChunk = new ChunkPos(new BlockPos(bounds.minX(), 0, bounds.minZ()));
+            var maxChunk = new ChunkPos(new BlockPos(bounds.maxX(), 0, bounds.maxZ()));
+            for (var x = minChunk.x; x <= maxChunk.x; x++) {
+                for (var z = minChunk.z; z <= maxChunk.z; z++) {
+                    level.setChunkForced(x, z, true);
+                }
+            }
+
+            plot.build(level, source.getPlayer(), origin);
+            lastBuilt = new BuiltScenario(scenario, level.dimension(), origin);
+
+            var finalOrigin = origin;
+            source.sendSuccess(() -> Component.literal(String.format(
+                    "Built load test with %d branches at %s in %s. Wait for the grid to boot before recording.",
+                    scenario.getBranches(), finalOrigin.toShortString(), sw)), true);
+        } catch (RuntimeException e) {
+            LOG.error("Failed to build load test {}", scenario, e);
+            source.sendFailure(Component.literal("Failed to build load test: " + e));
+        }
+    }
+
+    private static void record(CommandSourceStack source, int ticks) {
+        var built = lastBuilt;
+        if (built == null) {
+            source.sendFailure(Component.literal("Build a load test first using /ae2 loadtest build"));
+            return;
+        }
+
+        var level = source.getServer().getLevel(built.dimension());
+        if (level == null) {
+            source.sendFailure(Component.literal("The dimension of the load test network is not loaded: "
+                    + built.dimension().location()));
+            return;
+        }
+
+        var controllerPos = built.origin().offset(LoadTestScenario.CONTROLLER_POS);
+        var host = GridHelper.getNodeHost(level, controllerPos);
+        var node = host != null ? host.getGridNode(null) : null;
+        if (node == null || !(node.getGrid() instanceof Grid grid)) {
+            source.sendFailure(Component.literal("The load test network at " + controllerPos.toShortString()
+                    + " is not available"));
+            return;
+        }
+
+        grid.setTickTimings(new GridServiceTimings(ticks, timings -> writeReport(source, built, grid, timings)));
+        source.sendSuccess(() -> Component.literal(String.format("Recording %d ticks of a grid with %d nodes",
+                ticks, grid.size())), true);
+    }
+
+    private static void writeReport(CommandSourceStack source, BuiltScenario built, Grid grid,
+            GridServiceTimings timings) {
+        var scenario = built.scenario();
+        var server = source.getServer();
+        var reportPath = server.getServerDirectory()
+                .resolve("ae2_loadtest_" + TIMESTAMP_FORMATTER.format(LocalDateTime.now()) + ".json");
+
+        try (var writer = new JsonWriter(Files.newBufferedWriter(reportPath, StandardCharsets.UTF_8))) {
+            writer.setIndent(" ");
+            writer.beginObject();
+
+            writer.name("scenario");
+            writer.beginObject();
+            JsonStreamUtil.writeProperties(Map.of(
+                    "drives", scenario.drives(),
+                    "patternProviders", scenario.patternProviders(),
+                    "craftingCpus", scenario.craftingCpus(),
+                    "busPairs", scenario.busPairs(),
+                    "storageFill", scenario.storageFill(),
+                    "branchLength", scenario.branchLength(),
+                    "branches", scenario.getBranches()), writer);
+            writer.endObject();
+
+            JsonStreamUtil.writeProperties(Map.of(
+                    "nodes", grid.size(),
+                    "ticks", timings.getRecordedTicks(),
+                    "averageServerTickMillis", server.getAverageTickTimeNanos() / 1_000_000.0), writer);
+
+            // All times are in microseconds per tick
+            writer.name("services");
+            writer.beginObject();
+            var services = new LinkedHashMap<String, Object>();
+            for (var entry : timings.getServices().entrySet()) {
+                services.put(entry.getKey().getSimpleName(), JsonStreamUtil.toMap(entry.getValue()));
+            }
+            JsonStreamUtil.writeProperties(services, writer);
+            writer.endObject();
+
+            writer.name("total");
+            writer.beginObject();
+            JsonStreamUtil.writeProperties(JsonStreamUtil.toMap(timings.getTotal()), writer);
+            writer.endObject();
+
+            writer.endObject();
+        } catch (IOException e) {
+            LOG.error("Failed to write load test report to {}", reportPath, e);
+            source.sendFailure(Component.literal("Failed to write load test report: " + e));
+            return;
+        }
+
+        source.sendSuccess(() -> Component.literal(String.format("Recorded %d ticks, mean %.1fµs per tick. Report: %s",
+                timings.getRecordedTicks(), timings.getTotal().mean(), reportPath)), true);
+    }
+}
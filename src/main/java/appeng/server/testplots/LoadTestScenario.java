@@ -0,0 +1,167 @@
+package appeng.server.testplots;
+
+import java.util.List;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.component.DataComponents;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.block.Blocks;
+
+import appeng.api.crafting.PatternDetailsHelper;
+import appeng.api.networking.pathing.ChannelMode;
+import appeng.api.stacks.AEItemKey;
+import appeng.api.stacks.GenericStack;
+import appeng.core.AppEng;
+import appeng.core.definitions.AEBlocks;
+import appeng.core.definitions.AEParts;
+import appeng.me.service.PathingService;
+import appeng.server.testworld.Plot;
+import appeng.server.testworld.PlotBuilder;
+
+/**
+ * Describes a large synthetic network that is used to measure how the grid services scale, i.e. on a dedicated server.
+ * <p/>
+ * A dense cable spine runs along +X from the controller. Every other block of the spine, a branch of smart cable runs
+ * along +Z. Drives and pattern providers sit on top of the branches, 1k crafting CPUs below them (spaced so that they
+ * don't merge), and export/import bus pairs move an item through chests placed between neighboring branches.
+ *
+ * @param drives           Number of drives, each filled with ten 64k item cells.
+ * @param patternProviders Number of pattern providers, each with nine processing patterns.
+ * @param craftingCpus     Number of single-block crafting CPUs.
+ * @param busPairs         Number of export/import bus pairs.
+ * @param storageFill      Percentage of the types of each item cell that are used.
+ * @param branchLength     Length of each cable branch.
+ */
+public record LoadTestScenario(int drives,
+        int patternProviders,
+        int craftingCpus,
+        int busPairs,
+        int storageFill,
+        int branchLength) {
+
+    public static final int DEFAULT_BRANCH_LENGTH = 32;
+
+    /**
+     * The controller's position relative to the origin of the plot.
+     */
+    public static final BlockPos CONTROLLER_POS = new BlockPos(-1, 0, 0);
+
+    private static final int CELLS_PER_DRIVE = 10;
+    private static final int TYPES_PER_CELL = 63;
+    private static final int ITEMS_PER_TYPE = 64;
+    private static final int PATTERNS_PER_PROVIDER = 9;
+
+    public LoadTestScenario {
+        if (drives < 0 || patternProviders < 0 || craftingCpus < 0 || busPairs < 0) {
+            throw new IllegalArgumentException("Device counts must not be negative");
+        }
+        if (storageFill < 0 || storageFill > 100) {
+            throw new IllegalArgumentException("Storage fill must be a percentage: " + storageFill);
+        }
+        if (branchLength < 1) {
+            throw new IllegalArgumentException("Branch length must be positive: " + branchLength);
+        }
+    }
+
+    public int getBranches() {
+        var branches = Math.max(1, Math.ceilDiv(drives + patternProviders, branchLength));
+        // Crafting CPUs use every other slot
+        branches = Math.max(branches, Math.ceilDiv(craftingCpus * 2, branchLength));
+        if (busPairs > 0) {
+            // Bus pairs sit between two branches
+            branches = Math.max(branches, Math.ceilDiv(busPairs, branchLength) + 1);
+        }
+        return branches;
+    }
+
+    public int getTypesPerCell() {
+        return Math.round(TYPES_PER_CELL * storageFill / 100f);
+    }
+
+    public Plot createPlot() {
+        var plot = new Plot(AppEng.makeId("load_test"));
+        var branches = getBranches();
+        var spineEnd = (branches - 1) * 2;
+
+        plot.creativeEnergyCell(PlotBuilder.posToBb(CONTROLLER_POS.west()));
+        plot.block(CONTROLLER_POS, AEBlocks.CONTROLLER);
+        plot.denseCable("[0," + spineEnd + "] 0 0");
+        for (var branch = 0; branch < branches; branch++) {
+            plot.cable(branch * 2 + " 0 [1," + branchLength + "]");
+        }
+
+        // Drives and pattern providers share the slots on top of the branches
+        var storedTypes = 0;
+        var topSlot = 0;
+        for (var i = 0; i < drives; i++) {
+            var drive = plot.drive(getBranchPos(topSlot++, 1));
+            for (var c = 0; c < CELLS_PER_DRIVE; c++) {
+                var cell = drive.addItemCell64k();
+                for (var t = 0; t < getTypesPerCell(); t++) {
+                    cell.add(itemKey(storedTypes++), ITEMS_PER_TYPE);
+                }
+            }
+        }
+        for (var i = 0; i < patternProviders; i++) {
+            var firstPattern = i * PATTERNS_PER_PROVIDER;
+            var inputTypes = storedTypes;
+            plot.blockEntity(PlotBuilder.posToBb(getBranchPos(topSlot++, 1)), AEBlocks.PATTERN_PROVIDER, pp -> {
+                for (var p = firstPattern; p < firstPattern + PATTERNS_PER_PROVIDER; p++) {
+                    // Use stored items as ingredients if there are any, so that the patterns can actually be crafted
+                    var input = itemKey(inputTypes > 0 ? p % inputTypes : p);
+                    var output = productKey(p);
+                    pp.getLogic().getPatternInv().addItems(PatternDetailsHelper.encodeProcessingPattern(
+                            List.of(new GenericStack(input, 1)),
+                            List.of(new GenericStack(output, 1))));
+                }
+            });
+        }
+
+        // Crafting CPUs only use every other slot below the branches so that neighbors don't form a multiblock
+        for (var i = 0; i < craftingCpus; i++) {
+            plot.block(getBranchPos(i * 2, -1), AEBlocks.CRAFTING_STORAGE_1K);
+        }
+
+        // The export bus moves the first stored item into a chest between two branches, where the import bus on the
+        // next branch picks it up again
+        var busItem = itemKey(0);
+        for (var i = 0; i < busPairs; i++) {
+            var exportPos = getBranchPos(i, 0);
+            plot.block(exportPos.east(), Blocks.CHEST);
+            plot.part(exportPos, Direction.EAST, AEParts.EXPORT_BUS, bus -> bus.getConfig().addFilter(busItem));
+            plot.part(exportPos.east(2), Direction.WEST, AEParts.IMPORT_BUS);
+        }
+
+        // This has so many nodes it needs infinite mode
+        plot.afterGridExistsAt(CONTROLLER_POS, (grid, node) -> {
+            ((PathingService) grid.getPathingService()).setForcedChannelMode(ChannelMode.INFINITE);
+        });
+
+        return plot;
+    }
+
+    /**
+     * @return The position of the given slot along the branches, at the given height relative to the branch cables.
+     */
+    private BlockPos getBranchPos(int slot, int y) {
+        return new BlockPos(slot / branchLength * 2, y, slot % branchLength + 1);
+    }
+
+    private static AEItemKey itemKey(int index) {
+        return renamedKey(Items.PAPER, "Load test item " + index);
+    }
+
+    private static AEItemKey productKey(int index) {
+        return renamedKey(Items.BOOK, "Load test product " + index);
+    }
+
+    private static AEItemKey renamedKey(Item item, String name) {
+        var stack = new ItemStack(item);
+        stack.set(DataComponents.CUSTOM_NAME, Component.literal(name));
+        return AEItemKey.of(stack);
+    }
+}
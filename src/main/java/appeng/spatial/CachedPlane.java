@@ -42,6 +42,8 @@
 import net.minecraft.world.ticks.ScheduledTick;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 
 import appeng.api.ids.AETags;
 import appeng.api.movable.BlockEntityMoveStrategies;
@@ -207,6 +209,8 @@ void swap(CachedPlane dst) {
 
             long startTime = System.nanoTime();
 
+            var swappedSections = this.swapSections(dst);
+
             for (int x = 0; x < this.x_size; x++) {
                 for (int z = 0; z < this.z_size; z++) {
                     final Column srcCol = this.myColumns[x][z];
@@ -216,6 +220,13 @@ void swap(CachedPlane dst) {
                         var src_y = this.y_offset + y;
                         var dst_y = dst.y_offset + y;
 
+                        if (swappedSections.contains(SectionPos.asLong(
+                                SectionPos.blockToSectionCoord(this.x_offset + x),
+                                SectionPos.blockToSectionCoord(src_y),
+                                SectionPos.blockToSectionCoord(this.z_offset + z)))) {
+                            continue;
+                        }
+
                         if (srcCol.doNotSkip(src_y) && dstCol.doNotSkip(dst_y)) {
                             var srcSection = srcCol.getSection(src_y);
                             var dstSection = dstCol.getSection(dst_y);
@@ -243,7 +254,7 @@ void swap(CachedPlane dst) {
 
             long endTime = System.nanoTime();
             long duration = endTime - startTime;
-            AELog.info("Block Copy Time: " + duration);
+            AELog.info("Block Copy Time: " + duration + " (" + swappedSections.size() + " sections swapped)");
 
             for (var moveRecord : this.blockEntities) {
                 var pos = moveRecord.blockEntity().getBlockPos();
@@ -286,6 +297,80 @@ void swap(CachedPlane dst) {
         }
     }
 
+    /**
+     * If both planes are offset from each other by whole sections, any section that lies completely within the plane
+     * can be moved by swapping the block state containers of the two sections instead of copying every block. Biomes
+     * stay where they are. Sections that contain blocks which must be skipped or converted are copied block by block.
+     *
+     * @return The positions of the sections in this plane that were swapped.
+     */
+    private LongSet swapSections(CachedPlane dst) {
+        var swapped = new LongOpenHashSet();
+        if (((dst.x_offset - this.x_offset) & 0xF) != 0
+                || ((dst.y_offset - this.y_offset) & 0xF) != 0
+                || ((dst.z_offset - this.z_offset) & 0xF) != 0) {
+            return swapped;
+        }
+
+        int minSX = SectionPos.blockToSectionCoord(this.x_offset + 15);
+        int minSY = SectionPos.blockToSectionCoord(this.y_offset + 15);
+        int minSZ = SectionPos.blockToSectionCoord(this.z_offset + 15);
+        int maxSX = SectionPos.blockToSectionCoord(this.x_offset + this.x_size) - 1;
+        int maxSY = SectionPos.blockToSectionCoord(this.y_offset + this.y_size) - 1;
+        int maxSZ = SectionPos.blockToSectionCoord(this.z_offset + this.z_size) - 1;
+
+        for (int sx = minSX; sx <= maxSX; sx++) {
+            for (int sz = minSZ; sz <= maxSZ; sz++) {
+                int x = SectionPos.sectionToBlockCoord(sx) - this.x_offset;
+                int z = SectionPos.sectionToBlockCoord(sz) - this.z_offset;
+                var srcChunk = this.myColumns[x][z].c;
+                var dstChunk = dst.myColumns[x][z].c;
+
+                for (int sy = minSY; sy <= maxSY; sy++) {
+                    int y = SectionPos.sectionToBlockCoord(sy) - this.y_offset;
+                    var srcIndex = srcChunk.getSectionIndex(this.y_offset + y);
+                    var dstIndex = dstChunk.getSectionIndex(dst.y_offset + y);
+                    var srcSection = srcChunk.getSection(srcIndex);
+                    var dstSection = dstChunk.getSection(dstIndex);
+
+                    if (!this.canSwapSection(srcSection, x, y, z) || !dst.canSwapSection(dstSection, x, y, z)) {
+                        continue;
+                    }
+
+                    srcChunk.getSections()[srcIndex] = new LevelChunkSection(dstSection.getStates(),
+                            srcSection.getBiomes());
+                    dstChunk.getSections()[dstIndex] = new LevelChunkSection(srcSection.getStates(),
+                            dstSection.getBiomes());
+                    swapped.add(SectionPos.asLong(sx, sy, sz));
+                }
+            }
+        }
+
+        return swapped;
+    }
+
+    /**
+     * @param x Plane-relative coordinate of the first block in the section.
+     * @param y Plane-relative coordinate of the first block in the section.
+     * @param z Plane-relative coordinate of the first block in the section.
+     */
+    private boolean canSwapSection(LevelChunkSection section, int x, int y, int z) {
+        if (section.getStates().maybeHas(state -> state.is(AETags.SPATIAL_BLACKLIST)
+                || state == this.matrixBlockState)) {
+            return false;
+        }
+
+        int minY = this.y_offset + y;
+        for (int cx = 0; cx < LevelChunkSection.SECTION_WIDTH; cx++) {
+            for (int cz = 0; cz < LevelChunkSection.SECTION_WIDTH; cz++) {
+                if (this.myColumns[x + cx][z + cz].hasSkipIn(minY, minY + LevelChunkSection.SECTION_HEIGHT - 1)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     private void markForUpdate(int x, int y, int z) {
         this.updates.add(new BlockPos(x, y, z));
         for (Direction d : Direction.values()) {
@@ -384,7 +469,9 @@ private void updateChunks() {
 
                 final LevelChunk c = this.myChunks[x][z];
 
-                ServerCompassService.updateArea(this.getLevel(), c);
+                // Only the sections within the transferred area have changed
+                ServerCompassService.updateArea(this.getLevel(), c, this.y_offset,
+                        this.y_offset + this.y_size - 1);
 
                 var cdp = Platform.getFullChunkPacket(c);
                 level.getChunkSource().chunkMap.getPlayers(c.getPos(), false)
@@ -431,6 +518,17 @@ private boolean doNotSkip(int y) {
             return this.skipThese == null || !this.skipThese.contains(y);
         }
 
+        private boolean hasSkipIn(int minY, int maxY) {
+            if (this.skipThese != null) {
+                for (int y : this.skipThese) {
+                    if (y >= minY && y <= maxY) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
         private void setSkip(int y) {
             if (this.skipThese == null) {
                 this.skipThese = new ArrayList<>();
@@ -322,6 +322,52 @@ private void assertListContent(AEItemKey... stacks) {
         assertEquals(ImmutableSet.copyOf(stacks), ImmutableSet.copyOf(itemList.keySet()));
     }
 
+    /**
+     * Totals are maintained on modification instead of being computed, make sure they follow all kinds of changes.
+     */
+    @Test
+    public void testTotalsFollowModifications() {
+        itemList.add(diamondSword(100), 5);
+        itemList.add(diamondSword(50), 3);
+        itemList.add(nameTag(), 2);
+        itemList.add(nameTag("a"), 4);
+        assertEquals(14, itemList.getTotal());
+
+        itemList.set(diamondSword(50), 1);
+        itemList.remove(nameTag("a"));
+        itemList.remove(nameTag(), 1);
+        assertEquals(7, itemList.getTotal());
+
+        var copy = new KeyCounter();
+        copy.removeAll(itemList);
+        assertEquals(-7, copy.getTotal());
+        copy.addAll(itemList);
+        assertEquals(0, copy.getTotal());
+
+        itemList.reset();
+        assertEquals(0, itemList.getTotal());
+    }
+
+    @Test
+    public void testFuzzyTotalMatchesFindFuzzy() {
+        itemList.add(diamondSword(100), 1);
+        itemList.add(diamondSword(80), 10);
+        itemList.add(diamondSword(30), 100);
+        itemList.add(diamondSword(0), 1000);
+        itemList.add(nameTag(), 2);
+        itemList.add(nameTag("a"), 4);
+
+        for (var mode : FuzzyMode.values()) {
+            for (var filter : List.of(diamondSword(100), diamondSword(30), nameTag())) {
+                long expected = 0;
+                for (var entry : itemList.findFuzzy(filter, mode)) {
+                    expected += entry.getLongValue();
+                }
+                assertEquals(expected, itemList.getFuzzyTotal(filter, mode), mode + " " + filter);
+            }
+        }
+    }
+
     private AEItemKey diamondSword(int durabilityPercent) {
         return diamondSword(durabilityPercent, null);
     }
@@ -0,0 +1,123 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2021, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.client.gui.me.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import net.minecraft.world.item.Items;
+
+import appeng.api.config.SortDir;
+import appeng.api.config.SortOrder;
+import appeng.api.config.ViewItems;
+import appeng.api.stacks.AEItemKey;
+import appeng.api.stacks.AEKey;
+import appeng.api.stacks.AEKeyType;
+import appeng.client.gui.widgets.ISortSource;
+import appeng.menu.me.common.GridInventoryEntry;
+import appeng.util.BootstrapMinecraft;
+
+@BootstrapMinecraft
+class RepoTest {
+
+    private static final List<AEKey> KEYS = List.of(
+            AEItemKey.of(Items.STICK),
+            AEItemKey.of(Items.STONE),
+            AEItemKey.of(Items.DIRT),
+            AEItemKey.of(Items.DIAMOND),
+            AEItemKey.of(Items.IRON_INGOT),
+            AEItemKey.of(Items.GOLD_INGOT),
+            AEItemKey.of(Items.APPLE),
+            AEItemKey.of(Items.BREAD));
+
+    /**
+     * Applies random incremental updates and checks that the view always matches a view that was built from scratch.
+     */
+    @ParameterizedTest
+    @EnumSource(SortDir.class)
+    void testIncrementalUpdatesMatchFullUpdate(SortDir sortDir) {
+        var repo = createRepo(sortDir);
+        repo.handleUpdate(true, List.of());
+
+        var random = new Random(1234);
+        Map<Long, GridInventoryEntry> serverState = new HashMap<>();
+        for (int i = 0; i < 500; i++) {
+            var serial = random.nextInt(KEYS.size());
+            var what = KEYS.get(serial);
+            // Keep amounts unique so that the sort order is well-defined
+            var amount = random.nextInt(4) == 0 ? 0 : random.nextInt(1000) * KEYS.size() + serial + 1;
+
+            var entry = new GridInventoryEntry(serial, what, amount, 0, false);
+            var known = serverState.containsKey((long) serial);
+            if (entry.isMeaningful()) {
+                serverState.put((long) serial, entry);
+            } else {
+                serverState.remove((long) serial);
+            }
+
+            // The key is only sent the first time a serial is seen
+            repo.handleUpdate(false, List.of(new GridInventoryEntry(serial, known ? null : what, amount, 0, false)));
+
+            var expected = createRepo(sortDir);
+            expected.handleUpdate(true, new ArrayList<>(serverState.values()));
+            assertThat(getView(repo)).containsExactlyElementsOf(getView(expected));
+        }
+    }
+
+    private static Repo createRepo(SortDir sortDir) {
+        return new Repo(() -> 0, new ISortSource() {
+            @Override
+            public SortOrder getSortBy() {
+                return SortOrder.AMOUNT;
+            }
+
+            @Override
+            public SortDir getSortDir() {
+                return sortDir;
+            }
+
+            @Override
+            public ViewItems getSortDisplay() {
+                return ViewItems.ALL;
+            }
+
+            @Override
+            public Set<AEKeyType> getSortKeyTypes() {
+                return Set.of(AEKeyType.items());
+            }
+        });
+    }
+
+    private static List<AEKey> getView(Repo repo) {
+        var result = new ArrayList<AEKey>();
+        for (int i = 0; i < repo.size(); i++) {
+            result.add(repo.get(i).getWhat());
+        }
+        return result;
+    }
+}
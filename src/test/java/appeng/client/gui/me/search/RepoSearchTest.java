@@ -0,0 +1,75 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2021, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.client.gui.me.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import net.minecraft.world.item.Items;
+
+import appeng.api.stacks.AEItemKey;
+import appeng.menu.me.common.GridInventoryEntry;
+import appeng.util.BootstrapMinecraft;
+
+@BootstrapMinecraft
+class RepoSearchTest {
+
+    private static final GridInventoryEntry IRON = new GridInventoryEntry(1, AEItemKey.of(Items.IRON_INGOT), 1, 0,
+            false);
+    private static final GridInventoryEntry GOLD = new GridInventoryEntry(2, AEItemKey.of(Items.GOLD_INGOT), 1, 0,
+            false);
+
+    @Test
+    void testRefinementKeepsResults() {
+        var search = new RepoSearch();
+        search.setSearchString("i");
+        assertThat(search.matches(IRON)).isTrue();
+        assertThat(search.matches(GOLD)).isTrue();
+
+        search.setSearchString("iron");
+        assertThat(search.matches(IRON)).isTrue();
+        assertThat(search.matches(GOLD)).isFalse();
+    }
+
+    @Test
+    void testAlternativeAfterTrailingPipeWidensSearch() {
+        var search = new RepoSearch();
+        search.setSearchString("iron");
+        assertThat(search.matches(GOLD)).isFalse();
+
+        search.setSearchString("iron|");
+        assertThat(search.matches(IRON)).isTrue();
+        assertThat(search.matches(GOLD)).isFalse();
+
+        search.setSearchString("iron|g");
+        assertThat(search.matches(IRON)).isTrue();
+        assertThat(search.matches(GOLD)).isTrue();
+    }
+
+    @Test
+    void testAlternativeAfterLonePipeWidensSearch() {
+        var search = new RepoSearch();
+        search.setSearchString("|");
+        assertThat(search.matches(GOLD)).isFalse();
+
+        search.setSearchString("|gold");
+        assertThat(search.matches(GOLD)).isTrue();
+    }
+}
@@ -90,12 +90,15 @@ public SimulationEnv copy() {
 
     public ICraftingPlan runSimulation(GenericStack what, CalculationStrategy strategy) {
         var calculation = new CraftingCalculation(mock(Level.class), gridMock, simulationRequester, what, strategy);
+        var executor = Executors.newSingleThreadExecutor();
         try {
-            var calculationFuture = Executors.newSingleThreadExecutor().submit(calculation::run);
+            var calculationFuture = executor.submit(calculation::run);
             calculation.simulateFor(1000000000);
             return calculationFuture.get(1000, TimeUnit.MILLISECONDS);
         } catch (Exception e) {
             throw new RuntimeException(e);
+        } finally {
+            executor.shutdown();
         }
     }
 
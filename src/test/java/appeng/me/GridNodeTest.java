@@ -33,4 +33,27 @@ public void rebootNotificationIsPostedAfterGridBeginsBooting() {
         assertThat(calls).containsExactly(false, true);
     }
 
+    /**
+     * The machine sets returned by the grid are cached, make sure the active machines still follow the boot state.
+     */
+    @Test
+    public void activeMachinesFollowBootingState() {
+        var node = makePoweredNode();
+        var grid = node.getGrid();
+        assertThat(grid.getMachines(Object.class)).containsExactly(owner);
+        assertThat(grid.getActiveMachines(Object.class)).containsExactly(owner);
+
+        reset(listener);
+        var calls = new ArrayList<Boolean>();
+        doAnswer(invocation -> {
+            calls.add(grid.getActiveMachines(Object.class).contains(owner));
+            return null;
+        }).when(listener).onStateChanged(owner, node, IGridNodeListener.State.GRID_BOOT);
+        var pathingService = (PathingService) grid.getPathingService();
+        pathingService.repath();
+        runTick(grid);
+        assertThat(calls).containsExactly(false, true);
+        assertThat(grid.getMachines(Object.class)).containsExactly(owner);
+    }
+
 }
@@ -0,0 +1,67 @@
+package appeng.me.energy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import appeng.api.networking.energy.IEnergyService;
+import appeng.api.networking.energy.IEnergyWatcher;
+import appeng.api.networking.energy.IEnergyWatcherNode;
+
+class EnergyThresholdIndexTest {
+    private final List<String> posted = new ArrayList<>();
+    private final EnergyThresholdIndex index = new EnergyThresholdIndex();
+
+    @Test
+    void testOnlyCrossedThresholdsArePosted() {
+        index.add(new EnergyThreshold(100, createWatcher("a")));
+        index.add(new EnergyThreshold(200, createWatcher("b")));
+        index.add(new EnergyThreshold(300, createWatcher("c")));
+
+        index.postCrossedThresholds(50, 250, null);
+        assertThat(posted).containsExactly("a", "b");
+
+        posted.clear();
+        index.postCrossedThresholds(250, 200, null);
+        assertThat(posted).containsExactly("b");
+    }
+
+    @Test
+    void testUnchangedPowerPostsNothing() {
+        index.add(new EnergyThreshold(100, createWatcher("a")));
+
+        index.postCrossedThresholds(100, 100, null);
+        assertThat(posted).isEmpty();
+    }
+
+    @Test
+    void testAddAndRemove() {
+        var watcher = createWatcher("a");
+        var threshold = new EnergyThreshold(100, watcher);
+        assertThat(index.add(threshold)).isTrue();
+        assertThat(index.add(new EnergyThreshold(100, watcher))).isFalse();
+        assertThat(index.add(new EnergyThreshold(100, createWatcher("b")))).isTrue();
+        assertThat(index.size()).isEqualTo(2);
+
+        assertThat(index.remove(threshold)).isTrue();
+        assertThat(index.remove(threshold)).isFalse();
+        index.postCrossedThresholds(0, 1000, null);
+        assertThat(posted).containsExactly("b");
+    }
+
+    private EnergyWatcher createWatcher(String name) {
+        return new EnergyWatcher(null, new IEnergyWatcherNode() {
+            @Override
+            public void updateWatcher(IEnergyWatcher newWatcher) {
+            }
+
+            @Override
+            public void onThresholdPass(IEnergyService energyGrid) {
+                posted.add(name);
+            }
+        });
+    }
+}
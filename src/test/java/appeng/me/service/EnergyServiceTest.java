@@ -10,6 +10,7 @@
 import net.minecraft.nbt.CompoundTag;
 
 import appeng.api.config.Actionable;
+import appeng.api.config.PowerMultiplier;
 import appeng.me.AbstractGridNodeTest;
 import appeng.me.GridConnection;
 import appeng.me.ManagedGridNode;
@@ -89,6 +90,29 @@ void testStoredEnergyIsRemovedOnNbtReload() {
         assertThat(energyService.getStoredPower()).isCloseTo(40, TOLERANCE);
     }
 
+    /**
+     * Simulated extractions may be answered from what previous simulations in the same tick found, make sure that
+     * actual extractions and removed storage are accounted for.
+     */
+    @Test
+    void testSimulatedExtractionReflectsPreviousExtractions() {
+        var mgn1 = createAndInitNode();
+        var mgn2 = createAndInitNode();
+        GridConnection.create(mgn1.getNode(), mgn2.getNode(), null);
+
+        var energyService = mgn1.getGrid().getEnergyService();
+        energyService.injectPower(40, Actionable.MODULATE);
+
+        assertThat(energyService.extractAEPower(30, Actionable.SIMULATE, PowerMultiplier.ONE)).isCloseTo(30, TOLERANCE);
+        assertThat(energyService.extractAEPower(30, Actionable.MODULATE, PowerMultiplier.ONE)).isCloseTo(30, TOLERANCE);
+        assertThat(energyService.extractAEPower(30, Actionable.SIMULATE, PowerMultiplier.ONE)).isCloseTo(10, TOLERANCE);
+
+        assertThat(energyService.extractAEPower(10, Actionable.SIMULATE, PowerMultiplier.ONE)).isCloseTo(10, TOLERANCE);
+        // Half the local storage leaves with the node
+        mgn2.destroy();
+        assertThat(energyService.extractAEPower(10, Actionable.SIMULATE, PowerMultiplier.ONE)).isCloseTo(5, TOLERANCE);
+    }
+
     @NotNull
     private ManagedGridNode createAndInitNode() {
         return createAndInitNode(null);
@@ -0,0 +1,117 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2021, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.parts.p2p;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class P2PFanOutTest {
+
+    private final P2PFanOut<String> fanOut = new P2PFanOut<>();
+    private final Map<String, Integer> capacity = new HashMap<>();
+    private final List<String> offers = new ArrayList<>();
+
+    private int transfer(String output, int amount, boolean simulate) {
+        offers.add(output);
+        var accepted = Math.min(amount, capacity.getOrDefault(output, 0));
+        if (!simulate) {
+            capacity.put(output, capacity.getOrDefault(output, 0) - accepted);
+        }
+        return accepted;
+    }
+
+    @Test
+    void testRemainderCascadesToOtherOutputs() {
+        capacity.put("a", 2);
+        capacity.put("b", 100);
+        capacity.put("c", 100);
+
+        assertThat(fanOut.distribute(List.of("a", "b", "c"), null, 30, false, this::transfer)).isEqualTo(30);
+        assertThat(capacity).containsEntry("a", 0).containsEntry("b", 82).containsEntry("c", 90);
+    }
+
+    @Test
+    void testRefusingOutputIsSkipped() {
+        capacity.put("full", 0);
+        capacity.put("empty", 100);
+        var outputs = List.of("full", "empty");
+
+        assertThat(fanOut.distribute(outputs, null, 10, false, this::transfer)).isEqualTo(10);
+        assertThat(offers).containsExactly("full", "empty");
+
+        offers.clear();
+        assertThat(fanOut.distribute(outputs, null, 10, false, this::transfer)).isEqualTo(10);
+        assertThat(offers).containsExactly("empty");
+
+        var stats = fanOut.getStats(outputs);
+        assertThat(stats.get(0).backedOff()).isTrue();
+        assertThat(stats.get(0).refusals()).isEqualTo(1);
+        assertThat(stats.get(1).transferred()).isEqualTo(20);
+
+        // Once the target of the output changed, it's offered transfers again
+        fanOut.resetBackoff("full");
+        offers.clear();
+        fanOut.distribute(outputs, null, 10, true, this::transfer);
+        assertThat(offers).contains("full");
+    }
+
+    @Test
+    void testRefusalOnlyBacksOffFromRefusedResource() {
+        var outputs = List.of("filtered");
+        P2PFanOut.Transfer<String> refuseA = (output, amount, simulate) -> 0;
+
+        assertThat(fanOut.distribute(outputs, "A", 10, false, refuseA)).isZero();
+        assertThat(fanOut.distribute(outputs, "B", 10, false, (output, amount, simulate) -> amount)).isEqualTo(10);
+
+        // Accepting B does not end the backoff from A
+        assertThat(fanOut.distribute(outputs, "A", 10, false, this::transfer)).isZero();
+        assertThat(offers).isEmpty();
+        assertThat(fanOut.getStats(outputs).getFirst().backedOff()).isTrue();
+    }
+
+    @Test
+    void testSimulationDoesNotBackOff() {
+        capacity.put("full", 0);
+        var outputs = List.of("full");
+
+        assertThat(fanOut.distribute(outputs, null, 10, true, this::transfer)).isZero();
+        assertThat(fanOut.distribute(outputs, null, 10, true, this::transfer)).isZero();
+        assertThat(offers).containsExactly("full", "full");
+    }
+
+    @Test
+    void testSmallTransfersAreSpreadAcrossOutputs() {
+        capacity.put("a", 100);
+        capacity.put("b", 100);
+        capacity.put("c", 100);
+        var outputs = List.of("a", "b", "c");
+
+        for (int i = 0; i < 3; i++) {
+            fanOut.distribute(outputs, null, 1, false, this::transfer);
+        }
+        assertThat(offers).containsExactly("a", "b", "c");
+        assertThat(capacity).containsEntry("a", 99).containsEntry("b", 99).containsEntry("c", 99);
+    }
+}
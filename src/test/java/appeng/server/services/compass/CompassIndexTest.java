@@ -0,0 +1,141 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2021, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.server.services.compass;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.level.ChunkPos;
+
+class CompassIndexTest {
+
+    private static final int MAX_RANGE = 174;
+
+    /**
+     * Compares the results of the tiled search against looking at every chunk.
+     */
+    @Test
+    void testFindClosestMatchesBruteForce() {
+        var random = new Random(1234);
+        var index = new CompassIndex();
+        var targets = new ArrayList<ChunkPos>();
+        for (int i = 0; i < 200; i++) {
+            var pos = new ChunkPos(random.nextInt(2000) - 1000, random.nextInt(2000) - 1000);
+            index.setHasCompassTarget(pos.x, pos.z, random.nextInt(24), true);
+            targets.add(pos);
+        }
+
+        for (int i = 0; i < 500; i++) {
+            var cx = random.nextInt(2400) - 1200;
+            var cz = random.nextInt(2400) - 1200;
+            var expected = findClosestBruteForce(targets, cx, cz);
+            var actual = index.findClosest(cx, cz, MAX_RANGE);
+            if (expected == null) {
+                assertThat(actual).isNull();
+            } else {
+                assertThat(actual).isNotNull();
+                assertThat(distanceSq(actual, cx, cz)).isEqualTo(distanceSq(expected, cx, cz));
+            }
+        }
+    }
+
+    @Test
+    void testSearchCrossesLegacyRegionBoundaries() {
+        var index = new CompassIndex();
+        index.setHasCompassTarget(1025, 0, 3, true);
+
+        assertThat(index.findClosest(1020, 0, MAX_RANGE)).isEqualTo(new ChunkPos(1025, 0));
+        assertThat(index.findClosest(1020 - MAX_RANGE, 0, MAX_RANGE)).isNull();
+    }
+
+    @Test
+    void testClearingLastSectionRemovesChunk() {
+        var index = new CompassIndex();
+        index.setHasCompassTarget(5, -7, 2, true);
+        index.setHasCompassTarget(5, -7, 4, true);
+        index.setHasCompassTarget(5, -7, 2, false);
+        assertThat(index.hasCompassTarget(5, -7)).isTrue();
+        assertThat(index.hasCompassTarget(5, -7, 4)).isTrue();
+
+        index.setHasCompassTarget(5, -7, 4, false);
+        assertThat(index.hasCompassTarget(5, -7)).isFalse();
+        assertThat(index.findClosest(5, -7, MAX_RANGE)).isNull();
+    }
+
+    @Test
+    void testSaveAndLoad() {
+        var index = new CompassIndex();
+        index.setHasCompassTarget(-300, 12, 0, true);
+        index.setHasCompassTarget(-300, 12, 70, true);
+        index.setHasCompassTarget(42, 4242, 9, true);
+
+        // The index does not depend on any registries
+        var loaded = CompassIndex.load(index.save(new CompoundTag(), null), null);
+        assertThat(loaded.hasCompassTarget(-300, 12, 0)).isTrue();
+        assertThat(loaded.hasCompassTarget(-300, 12, 70)).isTrue();
+        assertThat(loaded.hasCompassTarget(-300, 12, 1)).isFalse();
+        assertThat(loaded.hasCompassTarget(42, 4242, 9)).isTrue();
+    }
+
+    @Test
+    void testImportLegacyRegions() {
+        var index = new CompassIndex();
+        index.importLegacyRegion(1, -1, createLegacyRegion(5, 3, 1023));
+        // Region 0 covered positive and negative chunks with the same bits
+        index.importLegacyRegion(0, 0, createLegacyRegion(7, 0, 1));
+
+        assertThat(index.hasCompassTarget(1024 + 3, -1 - 1024, 5)).isTrue();
+        assertThat(index.hasCompassTarget(0, 1, 7)).isTrue();
+        assertThat(index.hasCompassTarget(0, 1 - 1024, 7)).isTrue();
+    }
+
+    private static CompoundTag createLegacyRegion(int sectionIndex, int localX, int localZ) {
+        var bitmap = new BitSet();
+        bitmap.set(localX + localZ * 1024);
+        var tag = new CompoundTag();
+        tag.putByteArray("section" + sectionIndex, bitmap.toByteArray());
+        return tag;
+    }
+
+    private static ChunkPos findClosestBruteForce(List<ChunkPos> targets, int cx, int cz) {
+        ChunkPos closest = null;
+        for (var target : targets) {
+            if (Math.abs(target.x - cx) >= MAX_RANGE || Math.abs(target.z - cz) >= MAX_RANGE) {
+                continue;
+            }
+            if (closest == null || distanceSq(target, cx, cz) < distanceSq(closest, cx, cz)) {
+                closest = target;
+            }
+        }
+        return closest;
+    }
+
+    private static long distanceSq(ChunkPos pos, int cx, int cz) {
+        long dx = pos.x - cx;
+        long dz = pos.z - cz;
+        return dx * dx + dz * dz;
+    }
+}